@@ -0,0 +1,76 @@
+package net.javaguides.springboot.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Compares a JMH JSON result with a stored baseline and exits non-zero when a benchmark got slower than the threshold.
+// Usage: BenchmarkBaselineComparator <result.json> <baseline.json> <threshold, e.g. 0.10>
+public class BenchmarkBaselineComparator {
+
+    record Score(String mode, double score, double error, String unit) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        File result = new File(args[0]);
+        File baseline = new File(args[1]);
+        double threshold = Double.parseDouble(args[2]);
+
+        if (!baseline.isFile()) {
+            System.out.println("No baseline at " + baseline + ", copy " + result + " there to record one");
+            return;
+        }
+
+        Map<String, Score> current = read(result);
+        Map<String, Score> previous = read(baseline);
+        int regressions = 0;
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score before = previous.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW         %-90s %12.3f %s%n", entry.getKey(), entry.getValue().score(), entry.getValue().unit());
+                continue;
+            }
+            Score after = entry.getValue();
+            double change = (after.score() - before.score()) / before.score();
+            // throughput regresses when it drops, every other mode reports time and regresses when it grows
+            double slowdown = "thrpt".equals(after.mode()) ? -change : change;
+            boolean beyondNoise = Math.abs(after.score() - before.score()) > errorOf(after) + errorOf(before);
+            boolean regressed = slowdown > threshold && beyondNoise;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-11s %-90s %12.3f -> %12.3f %s (%+.1f%%)%n", regressed ? "REGRESSION" : "OK",
+                    entry.getKey(), before.score(), after.score(), after.unit(), change * 100);
+        }
+
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + Math.round(threshold * 100) + "%");
+            System.exit(1);
+        }
+    }
+
+    private static double errorOf(Score score) {
+        return Double.isNaN(score.error()) ? 0 : score.error();
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = run.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key.toString(), new Score(run.path("mode").asText(), metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(Double.NaN), metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+}
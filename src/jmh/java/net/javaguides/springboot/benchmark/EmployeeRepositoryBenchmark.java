@@ -0,0 +1,62 @@
+package net.javaguides.springboot.benchmark;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// The same single row lookup through each query style EmployeeRepository offers
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeRepositoryBenchmark {
+    private EmployeeRepository employeeRepository;
+    private Employee employee;
+
+    @Setup(Level.Trial)
+    public void setup(ApplicationState application) {
+        employeeRepository = application.getBean(EmployeeRepository.class);
+        employee = employeeRepository.findByEmail(ApplicationState.employee(ApplicationState.EMPLOYEES / 2).getEmail()).get();
+    }
+
+    @Benchmark
+    public Optional<Employee> findById() {
+        return employeeRepository.findById(employee.getId());
+    }
+
+    @Benchmark
+    public Optional<Employee> findByEmailDerived() {
+        return employeeRepository.findByEmail(employee.getEmail());
+    }
+
+    @Benchmark
+    public Employee findByJPQL() {
+        return employeeRepository.findByJPQL(employee.getFirstName(), employee.getLastName());
+    }
+
+    @Benchmark
+    public Employee findByJPQLNamedParams() {
+        return employeeRepository.findByJPQLNamedParams(employee.getFirstName(), employee.getLastName());
+    }
+
+    @Benchmark
+    public Employee findByNativeSQL() {
+        return employeeRepository.findByNativeSQL(employee.getFirstName(), employee.getLastName());
+    }
+
+    @Benchmark
+    public Employee findByNativeSQLNamed() {
+        return employeeRepository.findByNativeSQLNamed(employee.getFirstName(), employee.getLastName());
+    }
+
+    @Benchmark
+    public Optional<EmployeeView> findViewById() {
+        return employeeRepository.findViewById(employee.getId());
+    }
+}
@@ -0,0 +1,42 @@
+package net.javaguides.springboot.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.javaguides.springboot.model.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    // configured like the ObjectMapper Spring Boot hands to the message converters
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private List<Employee> employees;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        employees = LongStream.range(0, size)
+                .mapToObj(i -> {
+                    Employee employee = ApplicationState.employee(i);
+                    employee.setId(i + 1);
+                    return employee;
+                })
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeEmployees() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(employees);
+    }
+}
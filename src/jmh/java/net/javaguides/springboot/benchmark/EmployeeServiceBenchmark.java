@@ -0,0 +1,56 @@
+package net.javaguides.springboot.benchmark;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.service.EmployeeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+    private final AtomicLong sequence = new AtomicLong(ApplicationState.EMPLOYEES);
+
+    private EmployeeService employeeService;
+    private long employeeId;
+
+    @Setup(Level.Trial)
+    public void setup(ApplicationState application) {
+        employeeService = application.getBean(EmployeeService.class);
+        employeeId = employeeService.getEmployees(0, ApplicationState.EMPLOYEES / 2).getNextCursor();
+    }
+
+    @Benchmark
+    public Employee saveEmployee() {
+        return employeeService.saveEmployee(ApplicationState.employee(sequence.getAndIncrement()));
+    }
+
+    @Benchmark
+    public Optional<Employee> getEmployeeById() {
+        return employeeService.getEmployeeById(employeeId);
+    }
+
+    // served from the employees cache after the first call
+    @Benchmark
+    public Optional<EmployeeView> getEmployeeViewById() {
+        return employeeService.getEmployeeViewById(employeeId);
+    }
+
+    @Benchmark
+    public List<Employee> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public List<EmployeeView> getAllEmployeeViews() {
+        return employeeService.getAllEmployeeViews();
+    }
+}
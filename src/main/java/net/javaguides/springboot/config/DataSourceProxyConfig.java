@@ -0,0 +1,17 @@
+package net.javaguides.springboot.config;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceProxyConfig {
+
+    @Bean
+    public static DataSourceProxyPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners,
+                                                                            ObjectProvider<MethodExecutionListener> methodListeners) {
+        return new DataSourceProxyPostProcessor(listeners, methodListeners);
+    }
+}
@@ -0,0 +1,36 @@
+package net.javaguides.springboot.config;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+// Wraps the application's DataSource (the routing proxy when read/write splitting is on, so replica reads are
+// seen too) in a datasource-proxy that reports to the QueryExecutionListener and MethodExecutionListener beans
+public class DataSourceProxyPostProcessor implements BeanPostProcessor {
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<QueryExecutionListener> listeners;
+    private final ObjectProvider<MethodExecutionListener> methodListeners;
+
+    public DataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners,
+                                        ObjectProvider<MethodExecutionListener> methodListeners) {
+        this.listeners = listeners;
+        this.methodListeners = methodListeners;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+        listeners.orderedStream().forEach(builder::listener);
+        methodListeners.orderedStream().forEach(builder::methodListener);
+        return builder.build();
+    }
+}
@@ -0,0 +1,75 @@
+package net.javaguides.springboot.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceRoutingProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DataSourceRoutingProperties.Replica> configured = properties.getReplicas();
+        List<DataSource> replicas = IntStream.range(0, configured.size())
+                .mapToObj(index -> {
+                    DataSourceRoutingProperties.Replica replica = configured.get(index);
+                    HikariDataSource dataSource = DataSourceBuilder.create()
+                            .type(HikariDataSource.class)
+                            .url(replica.getUrl())
+                            .username(replica.getUsername())
+                            .password(replica.getPassword())
+                            .build();
+                    dataSource.setConnectionTimeout(properties.getReplicaConnectionTimeout().toMillis());
+                    // replicas are not beans, so Boot's Hikari metrics binding does not see them
+                    dataSource.setPoolName("replica-" + index);
+                    meterRegistry.ifAvailable(registry ->
+                            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+                    return (DataSource) dataSource;
+                })
+                .toList();
+        return new ReplicaPool(replicas, properties.getHealthCheckInterval());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaPool, readYourWritesTracker));
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ReadYourWritesFilter readYourWritesFilter(ReadYourWritesTracker readYourWritesTracker,
+                                                     DataSourceRoutingProperties properties) {
+        return new ReadYourWritesFilter(readYourWritesTracker, properties.getClientIdHeader());
+    }
+}
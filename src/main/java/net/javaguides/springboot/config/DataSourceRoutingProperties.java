@@ -0,0 +1,38 @@
+package net.javaguides.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled;
+
+    // read-only transactions are spread round-robin over these, writes always use spring.datasource
+    private List<Replica> replicas = new ArrayList<>();
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // kept short so a dead replica is ejected instead of stalling the request
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(2);
+
+    // after a write, reads from the same client stay on the primary for this long; zero turns it off
+    private Duration readYourWritesWindow = Duration.ZERO;
+
+    private String clientIdHeader = "X-Client-Id";
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,21 @@
+package net.javaguides.springboot.config;
+
+import net.javaguides.springboot.service.EmployeeImportService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(EmployeeImportProperties.class)
+public class EmployeeImportConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.employees.import", name = "file")
+    public EmployeeImportRunner employeeImportRunner(EmployeeImportService employeeImportService,
+                                                     EmployeeImportProperties properties) {
+        return new EmployeeImportRunner(employeeImportService, Path.of(properties.getFile()));
+    }
+}
@@ -0,0 +1,23 @@
+package net.javaguides.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.employees.import")
+public class EmployeeImportProperties {
+
+    // CSV file imported once at startup by EmployeeImportRunner, unset for none
+    private String file;
+
+    // rows per saveEmployees transaction
+    private int chunkSize = 5000;
+
+    // chunk transactions written at the same time, each holds one connection
+    private int parallelism = 4;
+
+    // rejected rows listed in the report; all of them are counted
+    private int maxReportedRejections = 100;
+}
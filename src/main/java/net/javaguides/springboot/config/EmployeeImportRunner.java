@@ -0,0 +1,25 @@
+package net.javaguides.springboot.config;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.model.EmployeeImportReport;
+import net.javaguides.springboot.service.EmployeeImportService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.nio.file.Path;
+
+// One-off import at startup; with spring.main.web-application-type=none the application exits once it is done
+@Slf4j
+@AllArgsConstructor
+public class EmployeeImportRunner implements ApplicationRunner {
+    private final EmployeeImportService employeeImportService;
+    private final Path file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        log.info("Importing employees from {}", file);
+        EmployeeImportReport report = employeeImportService.importCsv(file);
+        report.rejectedRows().forEach(row -> log.warn("Rejected line {}: {}", row.line(), row.reason()));
+    }
+}
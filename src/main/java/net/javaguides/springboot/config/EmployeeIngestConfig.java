@@ -0,0 +1,25 @@
+package net.javaguides.springboot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.javaguides.springboot.service.EmployeeService;
+import net.javaguides.springboot.service.impl.EmployeeIngestServiceImpl;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.ingest", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(EmployeeIngestProperties.class)
+public class EmployeeIngestConfig {
+
+    @Bean
+    public EmployeeIngestServiceImpl employeeIngestService(EmployeeService employeeService,
+                                                           EmployeeIngestProperties properties,
+                                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        EmployeeIngestServiceImpl ingestService = new EmployeeIngestServiceImpl(employeeService, properties);
+        meterRegistry.ifAvailable(ingestService::bindTo);
+        return ingestService;
+    }
+}
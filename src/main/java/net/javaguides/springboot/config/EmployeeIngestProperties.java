@@ -0,0 +1,31 @@
+package net.javaguides.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.ingest")
+public class EmployeeIngestProperties {
+
+    // accept "Prefer: respond-async" creates; without it the header is ignored and creates stay synchronous
+    private boolean enabled;
+
+    // queued but unwritten creates; further submissions get 429 until the writer catches up
+    private int queueCapacity = 10_000;
+
+    // creates written per transaction
+    private int batchSize = 500;
+
+    // how long a ticket's status can be looked up after its last change
+    private Duration statusRetention = Duration.ofMinutes(10);
+
+    // tickets whose status is kept at once; beyond it statuses are evicted before statusRetention runs out
+    private long maxTrackedStatuses = 100_000;
+
+    // on shutdown, how long the writer may keep draining the queue
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
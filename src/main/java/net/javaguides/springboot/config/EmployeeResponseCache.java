@@ -0,0 +1,113 @@
+package net.javaguides.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.Cache;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+// Keeps list and by-id JSON responses as encoded (and gzipped) bytes, so a hit is copied out without touching Jackson.
+// Keys include the version the request was validated against: a read racing a write can only ever store its bytes
+// under the version it read. Writes through EmployeeService clear the cache, which just frees the memory.
+public class EmployeeResponseCache {
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+
+    public EmployeeResponseCache(Cache cache, ObjectMapper objectMapper, boolean gzip) {
+        this.cache = cache;
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+    }
+
+    // a gzip body is a different representation, so it needs its own strong ETag
+    public String eTag(String version, WebRequest request) {
+        return acceptsGzip(request) ? version + "-gzip" : version;
+    }
+
+    public ResponseEntity<Object> respond(String key, WebRequest request, Supplier<?> body) {
+        EncodedResponse response = cache.get(key, () -> encode(body.get()));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        // the byte[] converter commits the response as it writes, too early for ServerTimingFilter
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            builder.header(ServerTiming.HEADER, timing.toHeaderValue());
+        }
+        if (acceptsGzip(request)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    private boolean acceptsGzip(WebRequest request) {
+        return gzip && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    // gzip, or * when gzip is not listed, with a q-value above 0 (RFC 9110 12.5.3); "gzip;q=0" is a refusal
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double wildcard = 0;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].strip().toLowerCase(Locale.ROOT);
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return qValue(parameters) > 0;
+            }
+            if (name.equals("*")) {
+                wildcard = qValue(parameters);
+            }
+        }
+        return wildcard > 0;
+    }
+
+    private static double qValue(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].strip();
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).strip());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private EncodedResponse encode(Object body) throws IOException {
+        long start = System.nanoTime();
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        EncodedResponse response = new EncodedResponse(json, gzip ? gzip(json) : null);
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.serialized(System.nanoTime() - start);
+        }
+        return response;
+    }
+
+    private static byte[] gzip(byte[] json) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 32);
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(buffer)) {
+            gzipStream.write(json);
+        }
+        return buffer.toByteArray();
+    }
+
+    record EncodedResponse(byte[] json, byte[] gzip) {
+
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
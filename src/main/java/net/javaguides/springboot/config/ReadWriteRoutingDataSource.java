@@ -0,0 +1,39 @@
+package net.javaguides.springboot.config;
+
+import lombok.AllArgsConstructor;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Sends read-only transactions to a replica and everything else to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is fetched.
+@AllArgsConstructor
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    private DataSource primary;
+    private ReplicaPool replicas;
+    private ReadYourWritesTracker readYourWrites;
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (!readYourWrites.isPinnedToPrimary()) {
+                Connection replica = replicas.getConnection();
+                if (replica != null) {
+                    return replica;
+                }
+            }
+        } else {
+            readYourWrites.recordWrite();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+}
@@ -0,0 +1,29 @@
+package net.javaguides.springboot.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Binds the calling client, taken from the configured header, to the request thread
+@AllArgsConstructor
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private ReadYourWritesTracker readYourWrites;
+    private String clientIdHeader;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        readYourWrites.bind(request.getHeader(clientIdHeader));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWrites.clear();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.javaguides.springboot.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+// Remembers which clients wrote recently so their reads can stay on the primary until replicas catch up
+public class ReadYourWritesTracker {
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
+
+    private final ThreadLocal<String> currentClient = new ThreadLocal<>();
+    private final Cache<String, Boolean> recentWriters;
+    private final boolean enabled;
+
+    public ReadYourWritesTracker(Duration window) {
+        this.enabled = !window.isZero() && !window.isNegative();
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(enabled ? window : Duration.ofMillis(1))
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .build();
+    }
+
+    public void bind(String clientId) {
+        currentClient.set(clientId);
+    }
+
+    public void clear() {
+        currentClient.remove();
+    }
+
+    public void recordWrite() {
+        String clientId = currentClient.get();
+        if (enabled && clientId != null) {
+            recentWriters.put(clientId, Boolean.TRUE);
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        String clientId = currentClient.get();
+        return enabled && clientId != null && recentWriters.getIfPresent(clientId) != null;
+    }
+}
@@ -0,0 +1,89 @@
+package net.javaguides.springboot.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Round-robin over replica datasources; a replica that fails is ejected until the health check sees it valid again
+@Slf4j
+public class ReplicaPool implements AutoCloseable {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<DataSource> replicas;
+    private final Set<DataSource> ejected = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaPool(List<DataSource> replicas, Duration healthCheckInterval) {
+        this.replicas = List.copyOf(replicas);
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = healthCheckInterval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // returns a connection from the next healthy replica, or null when none is available
+    public Connection getConnection() {
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            DataSource replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (ejected.contains(replica)) {
+                continue;
+            }
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                eject(replica, e);
+            }
+        }
+        return null;
+    }
+
+    public int healthyReplicas() {
+        return replicas.size() - ejected.size();
+    }
+
+    void checkHealth() {
+        for (DataSource replica : replicas) {
+            try (Connection connection = replica.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    if (ejected.remove(replica)) {
+                        log.info("Replica {} is healthy again", replica);
+                    }
+                } else {
+                    eject(replica, null);
+                }
+            } catch (SQLException e) {
+                eject(replica, e);
+            }
+        }
+    }
+
+    private void eject(DataSource replica, SQLException cause) {
+        if (ejected.add(replica)) {
+            log.warn("Ejecting replica {}", replica, cause);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package net.javaguides.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.javaguides.springboot.service.impl.EmployeeServiceImpl;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.response-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+
+    // bounded by bytes rather than entries, one list response can outweigh thousands of single employees
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> responseCacheCustomizer(ResponseCacheProperties properties) {
+        return cacheManager -> cacheManager.registerCustomCache(EmployeeServiceImpl.EMPLOYEE_RESPONSE_CACHE,
+                Caffeine.newBuilder()
+                        .maximumWeight(properties.getMaxSize().toBytes())
+                        .weigher((key, value) -> value instanceof EmployeeResponseCache.EncodedResponse response
+                                ? response.weight() : 1)
+                        .recordStats()
+                        .build());
+    }
+
+    @Bean
+    public EmployeeResponseCache employeeResponseCache(CacheManager cacheManager, ObjectMapper objectMapper,
+                                                       ResponseCacheProperties properties) {
+        return new EmployeeResponseCache(cacheManager.getCache(EmployeeServiceImpl.EMPLOYEE_RESPONSE_CACHE),
+                objectMapper, properties.isGzip());
+    }
+
+    // hit ratio, size and evictions come with Boot's cache metrics; this adds the bytes held
+    @Bean
+    public MeterBinder responseCacheMetrics(CacheManager cacheManager) {
+        return registry -> {
+            if (cacheManager.getCache(EmployeeServiceImpl.EMPLOYEE_RESPONSE_CACHE) instanceof CaffeineCache cache) {
+                Gauge.builder("employee.response.cache.bytes", cache.getNativeCache(), nativeCache -> nativeCache.policy()
+                                .eviction()
+                                .map(eviction -> eviction.weightedSize().orElse(0L))
+                                .orElse(0L))
+                        .baseUnit("bytes")
+                        .description("Encoded response bytes held by the employee response cache")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package net.javaguides.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+
+    private boolean enabled;
+
+    // total size of the cached bodies, gzip variants included; least valuable entries are evicted beyond it
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    // also keep a gzip copy of every body for clients sending Accept-Encoding: gzip
+    private boolean gzip = true;
+}
@@ -0,0 +1,124 @@
+package net.javaguides.springboot.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+// Phase durations of the current request, collected on the request thread while ServerTimingFilter is active.
+// service includes the connection acquisition and SQL time spent inside it; controller is what remains of the
+// total once service and serialization are taken out.
+public class ServerTiming {
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+
+    private final long start = System.nanoTime();
+    private int serviceDepth;
+    private long serviceStart;
+    private long serviceNanos;
+    private long acquireStart;
+    private long acquireNanos;
+    private long sqlStart;
+    private long sqlNanos;
+    private int statements;
+    private long serializationNanos;
+
+    static ServerTiming start() {
+        ServerTiming timing = new ServerTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    // null unless the current thread is serving a timed request
+    public static ServerTiming current() {
+        return CURRENT.get();
+    }
+
+    @FunctionalInterface
+    public interface BodyWriter {
+        void writeTo(HttpOutputMessage outputMessage) throws IOException;
+    }
+
+    // For message converters: while a request is timed the body is written to a buffer first, so the serialization
+    // time is known and the header set before the first byte commits the response
+    public static void write(HttpOutputMessage outputMessage, BodyWriter writer) throws IOException {
+        ServerTiming timing = current();
+        if (timing == null) {
+            writer.writeTo(outputMessage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        writer.writeTo(new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timing.serialized(System.nanoTime() - start);
+
+        outputMessage.getHeaders().set(HEADER, timing.toHeaderValue());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    void serviceStarted() {
+        // only the outermost call counts when one service method calls another through the proxy
+        if (serviceDepth++ == 0) {
+            serviceStart = System.nanoTime();
+        }
+    }
+
+    void serviceFinished() {
+        if (--serviceDepth == 0) {
+            serviceNanos += System.nanoTime() - serviceStart;
+        }
+    }
+
+    void acquireStarted() {
+        acquireStart = System.nanoTime();
+    }
+
+    void acquireFinished() {
+        acquireNanos += System.nanoTime() - acquireStart;
+    }
+
+    void sqlStarted() {
+        sqlStart = System.nanoTime();
+    }
+
+    void sqlFinished() {
+        sqlNanos += System.nanoTime() - sqlStart;
+        statements++;
+    }
+
+    void serialized(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    // e.g. total;dur=4.21, controller;dur=0.80, service;dur=3.10, db-acquire;dur=0.05, sql;dur=2.30;desc="2 statements", serialization;dur=0.31
+    public String toHeaderValue() {
+        long total = System.nanoTime() - start;
+        return String.format(Locale.ROOT,
+                "total;dur=%.2f, controller;dur=%.2f, service;dur=%.2f, db-acquire;dur=%.2f, sql;dur=%.2f;desc=\"%d statements\", serialization;dur=%.2f",
+                millis(total), millis(Math.max(0, total - serviceNanos - serializationNanos)), millis(serviceNanos),
+                millis(acquireNanos), millis(sqlNanos), statements, millis(serializationNanos));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,27 @@
+package net.javaguides.springboot.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// Outermost around the service proxy, so transaction commit and cache lookups count as service time
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingAspect {
+
+    @Around("execution(* net.javaguides.springboot.service.EmployeeService.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServerTiming timing = ServerTiming.current();
+        if (timing == null) {
+            return joinPoint.proceed();
+        }
+        timing.serviceStarted();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timing.serviceFinished();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package net.javaguides.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingConfig {
+
+    @Bean
+    public ServerTimingFilter serverTimingFilter() {
+        return new ServerTimingFilter();
+    }
+
+    @Bean
+    public ServerTimingAspect serverTimingAspect() {
+        return new ServerTimingAspect();
+    }
+
+    @Bean
+    public ServerTimingDataSourceListener serverTimingDataSourceListener() {
+        return new ServerTimingDataSourceListener();
+    }
+
+    @Bean
+    public ServerTimingJackson2HttpMessageConverter serverTimingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJackson2HttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,52 @@
+package net.javaguides.springboot.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// Connection acquisition and statement execution time for ServerTiming. With read/write splitting the
+// connection is fetched lazily, so acquisition then shows up under sql instead.
+public class ServerTimingDataSourceListener implements QueryExecutionListener, MethodExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.sqlStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null) {
+            timing.sqlFinished();
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null && isGetConnection(executionContext)) {
+            timing.acquireStarted();
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        ServerTiming timing = ServerTiming.current();
+        if (timing != null && isGetConnection(executionContext)) {
+            timing.acquireFinished();
+        }
+    }
+
+    private static boolean isGetConnection(MethodExecutionContext executionContext) {
+        return executionContext.getTarget() instanceof DataSource
+                && "getConnection".equals(executionContext.getMethod().getName());
+    }
+}
@@ -0,0 +1,68 @@
+package net.javaguides.springboot.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Times each API request; responses with a JSON body get the header from ServerTimingJackson2HttpMessageConverter
+// once serialization is measured, cached ones from EmployeeResponseCache, the rest get it here. Async responses are
+// logged when they complete, their header only covers the time until the request thread handed off.
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ServerTiming timing = ServerTiming.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ServerTiming.clear();
+            if (!response.isCommitted() && !response.containsHeader(ServerTiming.HEADER)) {
+                response.setHeader(ServerTiming.HEADER, timing.toHeaderValue());
+            }
+            if (isAsyncStarted(request)) {
+                // a StreamingResponseBody (the export) is still writing on another thread, log once it is done
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        logTiming(request, response, timing);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                logTiming(request, response, timing);
+            }
+        }
+    }
+
+    private static void logTiming(HttpServletRequest request, HttpServletResponse response, ServerTiming timing) {
+        log.info("server-timing {} {} status={} {}", request.getMethod(),
+                request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), response.getStatus(),
+                timing.toHeaderValue());
+    }
+}
@@ -0,0 +1,24 @@
+package net.javaguides.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+// Serializes timed responses into a buffer first, so the serialization time is known before the
+// Server-Timing header has to be sent; replaces Boot's default Jackson converter
+public class ServerTimingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        ServerTiming.write(outputMessage, body -> super.writeInternal(object, type, body));
+    }
+}
@@ -0,0 +1,17 @@
+package net.javaguides.springboot.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-logging", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlLoggingProperties.class)
+public class SqlLoggingConfig {
+
+    @Bean
+    public SqlLoggingListener sqlLoggingListener(SqlLoggingProperties properties) {
+        return new SqlLoggingListener(properties);
+    }
+}
@@ -0,0 +1,67 @@
+package net.javaguides.springboot.config;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// Logs one key=value line per statement; the work is only done for slow or sampled statements and the
+// appender behind this logger is asynchronous (logback-spring.xml), so the request thread never waits on I/O
+@Slf4j
+public class SqlLoggingListener implements QueryExecutionListener {
+    private final SqlLoggingProperties properties;
+
+    public SqlLoggingListener(SqlLoggingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= properties.getSlowQueryThreshold().toMillis();
+        if (slow) {
+            if (log.isWarnEnabled()) {
+                log.warn(format(execInfo, queryInfoList, true));
+            }
+        } else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+            log.info(format(execInfo, queryInfoList, false));
+        }
+    }
+
+    private String format(ExecutionInfo execInfo, List<QueryInfo> queryInfoList, boolean slow) {
+        StringBuilder line = new StringBuilder("sql")
+                .append(" durationMs=").append(execInfo.getElapsedTime())
+                .append(" slow=").append(slow)
+                .append(" success=").append(execInfo.isSuccess())
+                .append(" type=").append(execInfo.getStatementType())
+                .append(" batchSize=").append(execInfo.getBatchSize())
+                .append(" dataSource=").append(execInfo.getDataSourceName())
+                .append(" query=\"")
+                .append(queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; ")))
+                .append('"');
+        if (properties.isLogParameters()) {
+            line.append(" params=").append(queryInfoList.stream()
+                    .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                    .map(SqlLoggingListener::parameterValues)
+                    .collect(Collectors.joining(",", "[", "]")));
+        }
+        return line.toString();
+    }
+
+    private static String parameterValues(List<ParameterSetOperation> operations) {
+        // args[0] is the parameter index or name, args[1] the bound value (the SQL type for setNull)
+        return operations.stream()
+                .map(operation -> ParameterSetOperation.isSetNullParameterOperation(operation)
+                        ? "null"
+                        : String.valueOf(operation.getArgs()[1]))
+                .collect(Collectors.joining(",", "(", ")"));
+    }
+}
@@ -0,0 +1,23 @@
+package net.javaguides.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sql-logging")
+public class SqlLoggingProperties {
+
+    private boolean enabled = true;
+
+    // statements taking at least this long are always logged, at WARN
+    private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+    // fraction of the remaining statements that is logged, at INFO; 1 logs everything, 0 only slow ones
+    private double sampleRate = 0.01;
+
+    private boolean logParameters = true;
+}
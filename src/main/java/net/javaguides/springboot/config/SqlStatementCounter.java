@@ -0,0 +1,68 @@
+package net.javaguides.springboot.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.util.List;
+
+// Counts the statements executed on the current thread between start() and stop(); a batch counts once
+public class SqlStatementCounter implements QueryExecutionListener {
+    private final ThreadLocal<Counts> counts = new ThreadLocal<>();
+
+    public Counts start() {
+        Counts started = new Counts();
+        counts.set(started);
+        return started;
+    }
+
+    public Counts stop() {
+        Counts stopped = counts.get();
+        counts.remove();
+        return stopped;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counts current = counts.get();
+        if (current != null) {
+            queryInfoList.forEach(queryInfo -> current.increment(QueryUtils.getQueryType(queryInfo.getQuery())));
+        }
+    }
+
+    public static class Counts {
+        private final int[] byType = new int[QueryType.values().length];
+
+        void increment(QueryType type) {
+            byType[type.ordinal()]++;
+        }
+
+        public int get(QueryType type) {
+            return byType[type.ordinal()];
+        }
+
+        public int total() {
+            int total = 0;
+            for (int count : byType) {
+                total += count;
+            }
+            return total;
+        }
+
+        // e.g. total=2;select=1;insert=1;update=0;delete=0;other=0
+        @Override
+        public String toString() {
+            StringBuilder value = new StringBuilder("total=").append(total());
+            for (QueryType type : QueryType.values()) {
+                value.append(';').append(type.name().toLowerCase()).append('=').append(get(type));
+            }
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package net.javaguides.springboot.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatementCountingProperties.class)
+public class SqlStatementCountingConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public SqlStatementCountingFilter sqlStatementCountingFilter(SqlStatementCounter sqlStatementCounter,
+                                                                 MeterRegistry meterRegistry,
+                                                                 SqlStatementCountingProperties properties) {
+        return new SqlStatementCountingFilter(sqlStatementCounter, meterRegistry, properties);
+    }
+}
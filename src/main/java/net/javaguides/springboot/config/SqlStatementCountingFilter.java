@@ -0,0 +1,60 @@
+package net.javaguides.springboot.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Counts the statements each API request executes and records them per endpoint; the header is written by
+// SqlStatementCountHeaderAdvice before the body, and here for responses that have none
+@Slf4j
+@AllArgsConstructor
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+    public static final String HEADER = "X-Sql-Statements";
+    static final String COUNTS_ATTRIBUTE = SqlStatementCounter.Counts.class.getName();
+
+    private SqlStatementCounter counter;
+    private MeterRegistry meterRegistry;
+    private SqlStatementCountingProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Counts counts = counter.start();
+        if (properties.isHeaderEnabled()) {
+            request.setAttribute(COUNTS_ATTRIBUTE, counts);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            counter.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.requests.sql.statements")
+                    .description("SQL statements executed per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .record(counts.total());
+            if (properties.isHeaderEnabled() && !response.isCommitted()) {
+                response.setHeader(HEADER, counts.toString());
+            }
+            if (counts.total() > properties.getWarnThreshold()) {
+                log.warn("{} {} executed {} SQL statements ({})", request.getMethod(), uri, counts.total(), counts);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package net.javaguides.springboot.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sql-statements")
+public class SqlStatementCountingProperties {
+
+    // adds the X-Sql-Statements header to API responses, meant for non-production environments
+    private boolean headerEnabled;
+
+    // requests executing more statements than this are logged as a likely N+1
+    private int warnThreshold = 20;
+}
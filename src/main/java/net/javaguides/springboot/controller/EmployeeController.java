@@ -1,19 +1,59 @@
 package net.javaguides.springboot.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
+import net.javaguides.springboot.config.EmployeeResponseCache;
+import net.javaguides.springboot.exception.InvalidImportException;
+import net.javaguides.springboot.model.BatchItemResult;
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeCollectionVersion;
+import net.javaguides.springboot.model.EmployeeImportReport;
+import net.javaguides.springboot.model.EmployeeIngestStatus;
+import net.javaguides.springboot.model.EmployeePage;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.service.EmployeeImportService;
+import net.javaguides.springboot.service.EmployeeIngestService;
 import net.javaguides.springboot.service.EmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/employees")
 @AllArgsConstructor
 public class EmployeeController {
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+    // suffixes eTag() appends to a version for its other representations
+    private static final Set<String> REPRESENTATIONS = Set.of("gzip", "cbor", "smile");
+
     private EmployeeService employeeService;
+    // present only with app.ingest.enabled=true
+    private Optional<EmployeeIngestService> employeeIngestService;
+    private EmployeeImportService employeeImportService;
+    // present only with app.response-cache.enabled=true
+    private Optional<EmployeeResponseCache> employeeResponseCache;
+    private ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -21,37 +61,228 @@ public class EmployeeController {
         return employeeService.saveEmployee(employee);
     }
 
-    @GetMapping
-    public List<Employee> getAllEmployees() {
-        return employeeService.getAllEmployees();
+    // "Prefer: respond-async" queues the create and answers 202 with a status URL; the preference is ignored
+    // (plain 201) when asynchronous ingest is disabled
+    @PostMapping(headers = "Prefer")
+    public ResponseEntity<Object> createEmployee(@RequestBody Employee employee,
+                                                 @RequestHeader("Prefer") String prefer) {
+        if (employeeIngestService.isEmpty() || !prefer.toLowerCase(Locale.ROOT).contains(RESPOND_ASYNC)) {
+            return new ResponseEntity<>(createEmployee(employee), HttpStatus.CREATED);
+        }
+        // validated up front, a create that can never be written should not be acknowledged
+        if (isBlank(employee.getFirstName()) || isBlank(employee.getLastName()) || isBlank(employee.getEmail())) {
+            return ResponseEntity.badRequest().body("firstName, lastName and email are required");
+        }
+        return employeeIngestService.get().submit(employee)
+                .<ResponseEntity<Object>>map(status -> ResponseEntity.accepted()
+                        .location(URI.create("/api/employees/async/" + status.ticket()))
+                        .header("Preference-Applied", RESPOND_ASYNC)
+                        .body(status))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, "1")
+                        .build());
     }
 
-    @GetMapping("{id}")
-    public ResponseEntity<Employee> getEmployeeById(@PathVariable("id") long employeeId) {
-        return employeeService.getEmployeeById(employeeId)
+    @GetMapping("/async/{ticket}")
+    public ResponseEntity<EmployeeIngestStatus> getIngestStatus(@PathVariable("ticket") String ticket) {
+        return employeeIngestService.flatMap(service -> service.getStatus(ticket))
                 .map(ResponseEntity::ok)
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @PostMapping("/batch")
+    public List<BatchItemResult> createEmployees(@RequestBody List<Employee> employees) {
+        return employeeService.saveEmployees(employees);
+    }
+
+    // the upload is parsed as it arrives and written in chunk transactions, never buffered as a whole
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public EmployeeImportReport importEmployees(InputStream csv) throws IOException {
+        return employeeImportService.importCsv(csv);
+    }
+
+    // the JSON counterpart of the batch endpoint for bodies too large to bind as one List<Employee>
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Object> importEmployeesJson(InputStream json) throws IOException {
+        try {
+            return ResponseEntity.ok(employeeImportService.importJson(json));
+        } catch (InvalidImportException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<Object> getAllEmployees(WebRequest webRequest) {
+        // validated against one aggregate row; a write between the two reads only costs the client a full response later
+        EmployeeCollectionVersion collectionVersion = employeeService.getCollectionVersion();
+        String version = collectionVersion.count() + "-" + collectionVersion.maxId() + "-" + collectionVersion.versionSum();
+        if (webRequest.checkNotModified(eTag(version, webRequest))) {
+            return null;
+        }
+        return employeeResponseCache
+                .filter(cache -> binaryFormat(webRequest) == null)
+                .map(cache -> cache.respond("all:" + version, webRequest, employeeService::getAllEmployeeViews))
+                .orElseGet(() -> ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(employeeService.getAllEmployeeViews()));
+    }
+
+    @GetMapping(params = "limit")
+    public EmployeePage getEmployees(@RequestParam(value = "after", defaultValue = "0") long after,
+                                     @RequestParam("limit") int limit) {
+        return employeeService.getEmployees(after, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+    }
+
+    @GetMapping("/search")
+    public List<EmployeeView> searchEmployees(@RequestParam("q") String query,
+                                              @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return employeeService.searchEmployees(query, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        // one JSON document per line, written as rows come off the cursor
+        StreamingResponseBody body = outputStream -> employeeService.exportEmployees(employee -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(employee));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("{id}")
+    public ResponseEntity<Object> getEmployeeById(@PathVariable("id") long employeeId, WebRequest webRequest) {
+        Optional<EmployeeView> employee = employeeService.getEmployeeViewById(employeeId);
+        if (employee.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        // 304 goes out without serializing the body
+        String version = String.valueOf(employee.get().version());
+        if (webRequest.checkNotModified(eTag(version, webRequest))) {
+            return null;
+        }
+        return employeeResponseCache
+                .filter(cache -> binaryFormat(webRequest) == null)
+                .map(cache -> cache.respond(employeeId + ":" + version, webRequest, employee::get))
+                .orElseGet(() -> ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(employee.get()));
+    }
+
     @PutMapping("{id}")
     public ResponseEntity<Employee> updateEmployee(@PathVariable("id") long employeeId,
-                                                   @RequestBody Employee employee) {
+                                                   @RequestBody Employee employee, WebRequest webRequest) {
         return employeeService.getEmployeeById(employeeId)
                 .map(savedEmployee -> {
+                    // an If-Match naming another version means the client edited a stale copy
+                    if (!ifMatch(webRequest, String.valueOf(savedEmployee.getVersion()))) {
+                        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).<Employee>build();
+                    }
                     savedEmployee.setFirstName(employee.getFirstName());
                     savedEmployee.setLastName(employee.getLastName());
                     savedEmployee.setEmail(employee.getEmail());
 
-                    Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
-                    return new ResponseEntity<>(updatedEmployee, HttpStatus.OK);
+                    try {
+                        Employee updatedEmployee = employeeService.updateEmployee(savedEmployee);
+                        return ResponseEntity.ok()
+                                .eTag(bodyETag(String.valueOf(updatedEmployee.getVersion()), webRequest))
+                                .body(updatedEmployee);
+                    } catch (OptimisticLockingFailureException e) {
+                        // someone else updated the row after it was read above
+                        return ResponseEntity.status(webRequest.getHeader(HttpHeaders.IF_MATCH) != null
+                                ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT).<Employee>build();
+                    }
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    @PatchMapping("{id}")
+    public ResponseEntity<Void> patchEmployee(@PathVariable("id") long employeeId,
+                                              @RequestBody Employee employee) {
+        return employeeService.patchEmployee(employeeId, employee)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
     @DeleteMapping("{id}")
     public ResponseEntity<String> deleteEmployee(@PathVariable("id") long employeeId) {
-        employeeService.deleteEmployee(employeeId);
+        if (!employeeService.deleteEmployee(employeeId)) {
+            return ResponseEntity.notFound().build();
+        }
         return new ResponseEntity<>("Employee deleted Successfully!", HttpStatus.OK);
     }
 
+    @DeleteMapping(params = "ids")
+    public ResponseEntity<String> deleteEmployees(@RequestParam("ids") List<Long> employeeIds) {
+        int deleted = employeeService.deleteEmployees(employeeIds);
+        return new ResponseEntity<>(deleted + " employees deleted Successfully!", HttpStatus.OK);
+    }
+
+    // every representation of a version needs its own strong ETag
+    private String eTag(String version, WebRequest webRequest) {
+        if (binaryFormat(webRequest) != null) {
+            return bodyETag(version, webRequest);
+        }
+        return employeeResponseCache.map(cache -> cache.eTag(version, webRequest)).orElse(version);
+    }
+
+    // the ETag of a body written by the message converters, which never gzip it
+    private static String bodyETag(String version, WebRequest webRequest) {
+        String binaryFormat = binaryFormat(webRequest);
+        return binaryFormat == null ? version : version + "-" + binaryFormat;
+    }
+
+    // true without If-Match, or when it names any representation of the version (the client may have read it
+    // gzipped or as CBOR); weak tags never match, If-Match uses strong comparison
+    private static boolean ifMatch(WebRequest webRequest, String version) {
+        String[] values = webRequest.getHeaderValues(HttpHeaders.IF_MATCH);
+        if (values == null) {
+            return true;
+        }
+        for (String value : values) {
+            for (String tag : value.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*")) {
+                    return true;
+                }
+                if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                    continue;
+                }
+                String opaqueTag = tag.substring(1, tag.length() - 1);
+                if (opaqueTag.equals(version) || (opaqueTag.startsWith(version + "-")
+                        && REPRESENTATIONS.contains(opaqueTag.substring(version.length() + 1)))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // "cbor" or "smile" when the Accept header prefers one of them over JSON, the same choice the converters make
+    private static String binaryFormat(WebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return null;
+        }
+        List<MediaType> acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        acceptedTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.includes(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (acceptedType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+            if (acceptedType.isCompatibleWith(APPLICATION_SMILE)) {
+                return "smile";
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
 }
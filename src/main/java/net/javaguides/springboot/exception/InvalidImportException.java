@@ -0,0 +1,7 @@
+package net.javaguides.springboot.exception;
+
+public class InvalidImportException extends RuntimeException {
+    public InvalidImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package net.javaguides.springboot.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BatchItemResult {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE
+    }
+
+    // position of the employee in the submitted batch
+    private int index;
+    private Status status;
+    private Long id;
+    private String email;
+}
@@ -10,8 +10,14 @@ import lombok.*;
 @NoArgsConstructor
 @Builder
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+        @Index(name = Employee.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true),
+        // serves the first name + last name lookups, last name first as it is the more selective column
+        @Index(name = "idx_employees_last_first", columnList = "last_name, first_name")
+})
 public class Employee {
+    public static final String EMAIL_UNIQUE_INDEX = "uk_employees_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private long id;
@@ -21,4 +27,8 @@ public class Employee {
     private String lastName;
     @Column(nullable = false)
     private String email;
+    // bumped on every update, guards against lost updates and doubles as the ETag
+    @Version
+    @Column(nullable = false)
+    private long version;
 }
@@ -0,0 +1,5 @@
+package net.javaguides.springboot.model;
+
+// Changes whenever a row is inserted, updated or deleted, so it can stand in for the whole list as a validator
+public record EmployeeCollectionVersion(long count, long maxId, long versionSum) {
+}
@@ -0,0 +1,12 @@
+package net.javaguides.springboot.model;
+
+import java.util.List;
+
+// rowsRead counts every data row of the file: imported + duplicates + rejected + failed
+public record EmployeeImportReport(long rowsRead, long imported, long duplicates, long rejected, long failed,
+                                   long elapsedMillis, double rowsPerSecond, List<RejectedRow> rejectedRows) {
+
+    // line is 1-based and counts the header
+    public record RejectedRow(long line, String reason) {
+    }
+}
@@ -0,0 +1,12 @@
+package net.javaguides.springboot.model;
+
+// Outcome of an asynchronously submitted create, looked up by ticket until the status expires
+public record EmployeeIngestStatus(String ticket, State state, Long id, String email, String error) {
+
+    public enum State {
+        QUEUED,
+        CREATED,
+        DUPLICATE,
+        FAILED
+    }
+}
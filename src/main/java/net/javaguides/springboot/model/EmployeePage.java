@@ -0,0 +1,14 @@
+package net.javaguides.springboot.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class EmployeePage {
+    private List<EmployeeView> content;
+    // id to pass as "after" for the next page, null on the last page
+    private Long nextCursor;
+}
@@ -0,0 +1,5 @@
+package net.javaguides.springboot.model;
+
+// Read-only projection of an employee row, not managed by the persistence context
+public record EmployeeView(long id, String firstName, String lastName, String email, long version) {
+}
@@ -1,13 +1,19 @@
 package net.javaguides.springboot.repository;
 
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeCollectionVersion;
+import net.javaguides.springboot.model.EmployeeView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee,Long> {
+public interface EmployeeRepository extends JpaRepository<Employee,Long>, EmployeeRepositoryCustom {
 
     Optional<Employee> findByEmail(String email);
 
@@ -27,6 +33,45 @@ public interface EmployeeRepository extends JpaRepository<Employee,Long> {
     @Query(value = "select * from employees e where e.first_name =:firstName and e.last_Name =:lastName", nativeQuery = true)
     Employee findByNativeSQLNamed(@Param("firstName") String firstName, @Param("lastName") String lastName);
 
+    //define projection queries that read rows straight into read-only views, without entity snapshots
+    @Query("select new net.javaguides.springboot.model.EmployeeView(e.id, e.firstName, e.lastName, e.email, e.version) from Employee e")
+    List<EmployeeView> findAllViews();
+
+    @Query("select new net.javaguides.springboot.model.EmployeeView(e.id, e.firstName, e.lastName, e.email, e.version) " +
+            "from Employee e where e.id = :id")
+    Optional<EmployeeView> findViewById(@Param("id") long id);
+
+    //define keyset query for cursor pagination, seeks past the last seen id instead of skipping an offset
+    @Query("select new net.javaguides.springboot.model.EmployeeView(e.id, e.firstName, e.lastName, e.email, e.version) " +
+            "from Employee e where e.id > :id order by e.id")
+    List<EmployeeView> findViewsByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    //define aggregate query summarising the table in one row, without reading the employees themselves
+    @Query("select new net.javaguides.springboot.model.EmployeeCollectionVersion(count(e), coalesce(max(e.id), 0), " +
+            "coalesce(sum(e.version), 0)) from Employee e")
+    EmployeeCollectionVersion findCollectionVersion();
+
+    //define custom query returning which of the given emails are already taken, one round trip per batch
+    @Query("select e.email from Employee e where e.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    //define modifying query that updates the supplied (non null) columns in one statement, without loading the entity
+    @Modifying
+    @Query("update Employee e set e.firstName = coalesce(:firstName, e.firstName), " +
+            "e.lastName = coalesce(:lastName, e.lastName), e.email = coalesce(:email, e.email), e.version = e.version + 1 where e.id = :id")
+    int patchEmployee(@Param("id") long id, @Param("firstName") String firstName,
+                      @Param("lastName") String lastName, @Param("email") String email);
+
+    //define modifying query that deletes by id in one statement, deleteById loads the entity first
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") long id);
+
+    //define modifying query that deletes many ids with a single IN statement
+    @Modifying
+    @Query("delete from Employee e where e.id in :ids")
+    int deleteEmployeesByIds(@Param("ids") Collection<Long> ids);
+
 
 
 }
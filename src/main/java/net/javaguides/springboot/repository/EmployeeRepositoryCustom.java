@@ -0,0 +1,16 @@
+package net.javaguides.springboot.repository;
+
+import net.javaguides.springboot.model.Employee;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface EmployeeRepositoryCustom {
+
+    // streams every employee off an open result set, must be consumed inside a transaction and closed
+    Stream<Employee> streamAll();
+
+    // inserts with JDBC batches (rewritten to multi-row inserts on MySQL) and sets the generated ids
+    void insertAll(List<Employee> employees);
+
+}
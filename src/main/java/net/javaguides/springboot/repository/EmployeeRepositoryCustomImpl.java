@@ -0,0 +1,75 @@
+package net.javaguides.springboot.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import net.javaguides.springboot.model.Employee;
+import org.hibernate.Session;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    private static final String INSERT_SQL = "insert into employees (first_name, last_name, email, version) values (?, ?, ?, 0)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // rows pulled per round trip by drivers other than MySQL's, see streamingFetchSize()
+    @Value("${app.employees.export.fetch-size:1000}")
+    private int fetchSize;
+
+    // rows sent per executeBatch, the driver rewrites each batch into multi-row inserts
+    @Value("${app.employees.batch.insert-size:500}")
+    private int insertBatchSize;
+
+    @Override
+    public Stream<Employee> streamAll() {
+        return entityManager.createQuery("select e from Employee e order by e.id", Employee.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, streamingFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                // keep the persistence context empty so memory stays flat however many rows are read
+                .peek(entityManager::detach);
+    }
+
+    // Connector/J streams a result set row by row only for a fetch size of Integer.MIN_VALUE. The alternative,
+    // useCursorFetch=true on the url, would move every query on the pool onto server-side cursors.
+    private int streamingFetchSize() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    @Override
+    public void insertAll(List<Employee> employees) {
+        // IDENTITY ids stop Hibernate from batching inserts, so go through the session's own connection
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (int from = 0; from < employees.size(); from += insertBatchSize) {
+                    List<Employee> chunk = employees.subList(from, Math.min(from + insertBatchSize, employees.size()));
+                    for (Employee employee : chunk) {
+                        statement.setString(1, employee.getFirstName());
+                        statement.setString(2, employee.getLastName());
+                        statement.setString(3, employee.getEmail());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        for (Employee employee : chunk) {
+                            if (keys.next()) {
+                                employee.setId(keys.getLong(1));
+                            }
+                        }
+                    }
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package net.javaguides.springboot.repository;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import net.javaguides.springboot.model.Employee;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// R2DBC access to the employees table for the reactive stack, the schema itself is owned by the Employee entity
+@Repository
+@Profile("reactive")
+public class ReactiveEmployeeRepository {
+    private static final String SELECT_SQL = "select id, first_name, last_name, email, version from employees";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveEmployeeRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    // rows are requested from the driver as the subscriber asks for them
+    public Flux<Employee> streamAll() {
+        return databaseClient.sql(SELECT_SQL + " order by id")
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .all();
+    }
+
+    public Mono<Employee> findById(long id) {
+        return databaseClient.sql(SELECT_SQL + " where id = :id")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::toEmployee)
+                .one();
+    }
+
+    public Mono<Employee> insert(Employee employee) {
+        return databaseClient.sql("insert into employees (first_name, last_name, email, version) values (:firstName, :lastName, :email, 0)")
+                .bind("firstName", employee.getFirstName())
+                .bind("lastName", employee.getLastName())
+                .bind("email", employee.getEmail())
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one()
+                .map(id -> {
+                    employee.setId(id);
+                    employee.setVersion(0);
+                    return employee;
+                });
+    }
+
+    public Mono<Integer> update(Employee employee) {
+        return databaseClient.sql("update employees set first_name = :firstName, last_name = :lastName, email = :email, version = version + 1 where id = :id")
+                .bind("firstName", employee.getFirstName())
+                .bind("lastName", employee.getLastName())
+                .bind("email", employee.getEmail())
+                .bind("id", employee.getId())
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    public Mono<Integer> deleteEmployeeById(long id) {
+        return databaseClient.sql("delete from employees where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    private static Employee toEmployee(Readable row) {
+        return Employee.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
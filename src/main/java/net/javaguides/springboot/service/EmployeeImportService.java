@@ -0,0 +1,18 @@
+package net.javaguides.springboot.service;
+
+import net.javaguides.springboot.model.EmployeeImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+public interface EmployeeImportService {
+    // firstName,lastName,email rows, an optional header line included
+    EmployeeImportReport importCsv(Path file) throws IOException;
+
+    EmployeeImportReport importCsv(InputStream csv) throws IOException;
+
+    // a JSON array of employee objects, read element by element; InvalidImportException when the body is no array
+    EmployeeImportReport importJson(InputStream json) throws IOException;
+
+}
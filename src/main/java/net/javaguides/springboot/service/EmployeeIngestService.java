@@ -0,0 +1,14 @@
+package net.javaguides.springboot.service;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeIngestStatus;
+
+import java.util.Optional;
+
+public interface EmployeeIngestService {
+    // empty when the queue is full and the caller should back off
+    Optional<EmployeeIngestStatus> submit(Employee employee);
+
+    Optional<EmployeeIngestStatus> getStatus(String ticket);
+
+}
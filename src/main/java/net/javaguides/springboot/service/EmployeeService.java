@@ -1,19 +1,42 @@
 package net.javaguides.springboot.service;
 
+import net.javaguides.springboot.model.BatchItemResult;
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeCollectionVersion;
+import net.javaguides.springboot.model.EmployeePage;
+import net.javaguides.springboot.model.EmployeeView;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EmployeeService {
     Employee saveEmployee(Employee employee);
 
+    List<BatchItemResult> saveEmployees(List<Employee> employees);
+
     List<Employee> getAllEmployees();
 
+    List<EmployeeView> getAllEmployeeViews();
+
+    EmployeeCollectionVersion getCollectionVersion();
+
+    EmployeePage getEmployees(long after, int limit);
+
+    void exportEmployees(Consumer<Employee> consumer);
+
     Optional<Employee> getEmployeeById(long id);
 
+    Optional<EmployeeView> getEmployeeViewById(long id);
+
     Employee updateEmployee(Employee updatedEmployee);
 
-    void deleteEmployee(long id);
+    boolean patchEmployee(long id, Employee patch);
+
+    boolean deleteEmployee(long id);
+
+    int deleteEmployees(List<Long> ids);
+
+    List<EmployeeView> searchEmployees(String query, int limit);
 
 }
@@ -0,0 +1,168 @@
+package net.javaguides.springboot.service.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Byte-level reader for firstName,lastName,email CSV (RFC 4180 quoting). It is fed one buffer at a time, rows may
+// span buffers, and the only allocations per row are the three field strings.
+class EmployeeCsvParser {
+    private static final int FIELDS = 3;
+    private static final String[] FIELD_NAMES = {"firstName", "lastName", "email"};
+    // the columns hold 255 characters, at most 1020 bytes of UTF-8; longer fields (or an unterminated quote
+    // swallowing the rest of the file) reject the row instead of growing the buffer
+    private static final int MAX_FIELD_BYTES = 1024;
+
+    interface RowHandler {
+        void row(long line, String firstName, String lastName, String email);
+
+        void rejected(long line, String reason);
+    }
+
+    private final RowHandler handler;
+    private final String[] fields = new String[FIELDS];
+    private byte[] field = new byte[128];
+    private int fieldLength;
+    private int fieldCount;
+    private boolean inQuotes;
+    private boolean afterQuote;
+    private boolean skippingRow;
+    private long line = 1;
+    private long rowLine = 1;
+    private boolean firstRow = true;
+
+    EmployeeCsvParser(RowHandler handler) {
+        this.handler = handler;
+    }
+
+    void feed(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            accept(buffer.get());
+        }
+    }
+
+    // flushes a last row without trailing newline
+    void finish() {
+        if (skippingRow) {
+            return;
+        }
+        if (inQuotes) {
+            handler.rejected(rowLine, "quoted field is not closed");
+            return;
+        }
+        if (fieldLength > 0 || fieldCount > 0 || afterQuote) {
+            endField();
+            endRow();
+        }
+    }
+
+    private void accept(byte b) {
+        if (b == '\n') {
+            line++;
+        }
+        if (skippingRow) {
+            // parsing starts over, unquoted, with the next line
+            if (b == '\n') {
+                skippingRow = false;
+                rowLine = line;
+            }
+            return;
+        }
+        if (inQuotes) {
+            if (b == '"') {
+                inQuotes = false;
+                afterQuote = true;
+            } else {
+                append(b);
+            }
+            return;
+        }
+        if (b == '"') {
+            // a doubled quote inside a quoted field stands for one quote
+            if (afterQuote || fieldLength == 0) {
+                if (afterQuote) {
+                    append(b);
+                }
+                inQuotes = true;
+                afterQuote = false;
+            } else {
+                append(b);
+            }
+            return;
+        }
+        afterQuote = false;
+        switch (b) {
+            case ',' -> endField();
+            case '\n' -> {
+                endField();
+                endRow();
+            }
+            case '\r' -> {
+            }
+            default -> append(b);
+        }
+    }
+
+    private void append(byte b) {
+        if (fieldLength == MAX_FIELD_BYTES) {
+            handler.rejected(rowLine, "field is longer than " + MAX_FIELD_BYTES + " bytes");
+            skipRow(b);
+            return;
+        }
+        if (fieldLength == field.length) {
+            field = Arrays.copyOf(field, Math.min(field.length * 2, MAX_FIELD_BYTES));
+        }
+        field[fieldLength++] = b;
+    }
+
+    // drops the rest of the row; the byte that overflowed may already be its line break
+    private void skipRow(byte b) {
+        skippingRow = b != '\n';
+        rowLine = skippingRow ? rowLine : line;
+        inQuotes = false;
+        afterQuote = false;
+        firstRow = false;
+        fieldLength = 0;
+        fieldCount = 0;
+    }
+
+    private void endField() {
+        if (fieldCount < FIELDS) {
+            fields[fieldCount] = new String(field, 0, fieldLength, StandardCharsets.UTF_8).strip();
+        }
+        fieldCount++;
+        fieldLength = 0;
+    }
+
+    private void endRow() {
+        try {
+            if (fieldCount == 1 && fields[0].isEmpty()) {
+                return;
+            }
+            if (firstRow) {
+                firstRow = false;
+                // tolerate a byte order mark and skip a header line
+                if (fields[0].startsWith("\uFEFF")) {
+                    fields[0] = fields[0].substring(1);
+                }
+                if (fieldCount == FIELDS && fields[2].equalsIgnoreCase("email")) {
+                    return;
+                }
+            }
+            if (fieldCount != FIELDS) {
+                handler.rejected(rowLine, "expected " + FIELDS + " fields but found " + fieldCount);
+                return;
+            }
+            for (int i = 0; i < FIELDS; i++) {
+                if (fields[i].isEmpty()) {
+                    handler.rejected(rowLine, FIELD_NAMES[i] + " is blank");
+                    return;
+                }
+            }
+            handler.row(rowLine, fields[0], fields[1], fields[2]);
+        } finally {
+            fieldCount = 0;
+            rowLine = line;
+        }
+    }
+}
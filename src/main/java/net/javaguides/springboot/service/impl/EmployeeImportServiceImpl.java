@@ -0,0 +1,284 @@
+package net.javaguides.springboot.service.impl;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.config.EmployeeImportProperties;
+import net.javaguides.springboot.exception.InvalidImportException;
+import net.javaguides.springboot.model.BatchItemResult;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeImportReport;
+import net.javaguides.springboot.service.EmployeeImportService;
+import net.javaguides.springboot.service.EmployeeService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Parses on the calling thread and hands chunks of rows to a small pool, each chunk being one saveEmployees
+// transaction (duplicate check plus batched inserts). At most two chunks per writer wait in memory, so the parser is
+// throttled to the database instead of buffering the file.
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    // mapped windows are bounded by the int-indexed ByteBuffer anyway
+    private static final long MAP_WINDOW_SIZE = 1L << 28;
+    private static final AtomicInteger RUNS = new AtomicInteger();
+
+    private final EmployeeService employeeService;
+    private final EmployeeImportProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeImportServiceImpl(EmployeeService employeeService, EmployeeImportProperties properties,
+                                     ObjectMapper objectMapper) {
+        this.employeeService = employeeService;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public EmployeeImportReport importCsv(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return run(rows -> {
+                EmployeeCsvParser parser = new EmployeeCsvParser(rows);
+                long size = channel.size();
+                for (long position = 0; position < size; position += MAP_WINDOW_SIZE) {
+                    MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(MAP_WINDOW_SIZE, size - position));
+                    parser.feed(window);
+                }
+                parser.finish();
+            });
+        }
+    }
+
+    @Override
+    public EmployeeImportReport importCsv(InputStream csv) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(csv);
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        return run(rows -> {
+            EmployeeCsvParser parser = new EmployeeCsvParser(rows);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                parser.feed(buffer);
+                buffer.clear();
+            }
+            parser.finish();
+        });
+    }
+
+    @Override
+    public EmployeeImportReport importJson(InputStream json) throws IOException {
+        return run(rows -> {
+            try (JsonParser parser = objectMapper.createParser(json)) {
+                readJsonArray(parser, rows);
+            }
+        });
+    }
+
+    // Tokens are pulled one array element at a time and only that element is materialized, so the body is never
+    // bound as a whole. Rejections are reported with the element's 1-based position in the array.
+    private static void readJsonArray(JsonParser parser, EmployeeCsvParser.RowHandler rows) throws IOException {
+        // a body that is not an array at all is refused before anything is written
+        try {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidImportException("expected a JSON array of employees");
+            }
+        } catch (JsonParseException e) {
+            throw new InvalidImportException("malformed JSON: " + e.getOriginalMessage());
+        }
+
+        long element = 0;
+        try {
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                element++;
+                if (token == null) {
+                    throw new JsonParseException(parser, "Unexpected end of input, the array is not closed");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    rows.rejected(element, "expected an employee object");
+                    continue;
+                }
+                JsonNode employee = parser.readValueAsTree();
+                String firstName = text(employee, "firstName");
+                String lastName = text(employee, "lastName");
+                String email = text(employee, "email");
+                String missing = firstName == null ? "firstName" : lastName == null ? "lastName" : email == null ? "email" : null;
+                if (missing != null) {
+                    rows.rejected(element, missing + " is blank");
+                } else {
+                    rows.row(element, firstName, lastName, email);
+                }
+            }
+        } catch (JsonParseException e) {
+            // nothing after a syntax error can be trusted; the chunks already handed over are still written
+            rows.rejected(element, "malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static String text(JsonNode employee, String field) {
+        JsonNode value = employee.get(field);
+        return value != null && value.isTextual() && !value.textValue().isBlank() ? value.textValue() : null;
+    }
+
+    private EmployeeImportReport run(RowSource source) throws IOException {
+        long start = System.nanoTime();
+        ImportRun importRun = new ImportRun();
+        try {
+            source.readInto(importRun);
+            importRun.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            importRun.awaitWriters();
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        EmployeeImportReport report = importRun.report(elapsedNanos);
+        log.info("Imported {} of {} employees in {} ms ({} rows/s): {} duplicates, {} rejected, {} failed",
+                report.imported(), report.rowsRead(), report.elapsedMillis(), Math.round(report.rowsPerSecond()),
+                report.duplicates(), report.rejected(), report.failed());
+        return report;
+    }
+
+    @FunctionalInterface
+    private interface RowSource {
+        void readInto(EmployeeCsvParser.RowHandler rows) throws IOException;
+    }
+
+    private class ImportRun implements EmployeeCsvParser.RowHandler {
+        private final int chunkSize = properties.getChunkSize();
+        private final ExecutorService writers;
+        private final Semaphore chunksInFlight = new Semaphore(properties.getParallelism() * 2);
+        // Emails of the rows not yet committed: a repeat of one of them is a duplicate before the database is asked,
+        // and two chunks in flight never race on the unique index. Entries leave once their chunk is written, later
+        // repeats are found by saveEmployees, so the set stays bounded by the chunks in flight, not the upload size.
+        private final Set<String> pendingEmails = ConcurrentHashMap.newKeySet();
+        private final List<EmployeeImportReport.RejectedRow> rejectedRows = new ArrayList<>();
+        private final LongAdder imported = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private long rowsRead;
+        private long rejected;
+        private List<Employee> chunk;
+
+        ImportRun() {
+            int run = RUNS.incrementAndGet();
+            AtomicInteger threads = new AtomicInteger();
+            this.writers = Executors.newFixedThreadPool(properties.getParallelism(), task -> {
+                Thread thread = new Thread(task, "employee-import-" + run + "-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public void row(long line, String firstName, String lastName, String email) {
+            rowsRead++;
+            if (!pendingEmails.add(email)) {
+                duplicates.increment();
+                return;
+            }
+            chunk.add(Employee.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(email)
+                    .build());
+            if (chunk.size() == chunkSize) {
+                submit();
+            }
+        }
+
+        @Override
+        public void rejected(long line, String reason) {
+            rowsRead++;
+            rejected++;
+            if (rejectedRows.size() < properties.getMaxReportedRejections()) {
+                rejectedRows.add(new EmployeeImportReport.RejectedRow(line, reason));
+            }
+        }
+
+        void flush() {
+            if (!chunk.isEmpty()) {
+                submit();
+            }
+        }
+
+        void awaitWriters() throws IOException {
+            writers.shutdown();
+            try {
+                writers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                writers.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the import to finish");
+            }
+        }
+
+        EmployeeImportReport report(long elapsedNanos) {
+            return new EmployeeImportReport(rowsRead, imported.sum(), duplicates.sum(), rejected, failed.sum(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), rowsRead * 1e9 / Math.max(1, elapsedNanos),
+                    List.copyOf(rejectedRows));
+        }
+
+        private void submit() {
+            List<Employee> employees = chunk;
+            chunk = new ArrayList<>(chunkSize);
+            try {
+                chunksInFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedIOException(new InterruptedIOException("Interrupted while importing employees"));
+            }
+            writers.execute(() -> {
+                try {
+                    write(employees);
+                } finally {
+                    employees.forEach(employee -> pendingEmails.remove(employee.getEmail()));
+                    chunksInFlight.release();
+                }
+            });
+        }
+
+        private void write(List<Employee> employees) {
+            try {
+                for (BatchItemResult result : employeeService.saveEmployees(employees)) {
+                    if (result.getStatus() == BatchItemResult.Status.CREATED) {
+                        imported.increment();
+                    } else {
+                        duplicates.increment();
+                    }
+                }
+            } catch (RuntimeException e) {
+                // the chunk's transaction rolled back as a whole, the other chunks are unaffected
+                log.error("Failed to import a chunk of {} employees", employees.size(), e);
+                failed.add(employees.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package net.javaguides.springboot.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.config.EmployeeIngestProperties;
+import net.javaguides.springboot.model.BatchItemResult;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeIngestStatus;
+import net.javaguides.springboot.service.EmployeeIngestService;
+import net.javaguides.springboot.service.EmployeeService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind for creates: submissions are queued in memory and a single writer thread inserts them in batches
+// through EmployeeService.saveEmployees. Anything still queued when the process dies is lost; a graceful shutdown
+// drains the queue first.
+@Slf4j
+public class EmployeeIngestServiceImpl implements EmployeeIngestService {
+    private static final long POLL_MILLIS = 100;
+
+    private final EmployeeService employeeService;
+    private final EmployeeIngestProperties properties;
+    private final BlockingQueue<Submission> queue;
+    private final Cache<String, EmployeeIngestStatus> statuses;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public EmployeeIngestServiceImpl(EmployeeService employeeService, EmployeeIngestProperties properties) {
+        this.employeeService = employeeService;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.statuses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getStatusRetention())
+                .maximumSize(properties.getMaxTrackedStatuses())
+                .build();
+        this.writer = Thread.ofPlatform().name("employee-ingest-writer").daemon().unstarted(this::drain);
+    }
+
+    @PostConstruct
+    public void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(properties.getShutdownTimeout().toMillis());
+        if (!queue.isEmpty()) {
+            log.warn("Shut down with {} queued employees not written", queue.size());
+        }
+    }
+
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Creates accepted but not yet written")
+                .register(registry);
+    }
+
+    @Override
+    public Optional<EmployeeIngestStatus> submit(Employee employee) {
+        EmployeeIngestStatus status = new EmployeeIngestStatus(UUID.randomUUID().toString(),
+                EmployeeIngestStatus.State.QUEUED, null, employee.getEmail(), null);
+        // recorded first, so the writer can never be overtaken by the QUEUED status
+        statuses.put(status.ticket(), status);
+        if (!running || !queue.offer(new Submission(status.ticket(), employee))) {
+            statuses.invalidate(status.ticket());
+            return Optional.empty();
+        }
+        return Optional.of(status);
+    }
+
+    @Override
+    public Optional<EmployeeIngestStatus> getStatus(String ticket) {
+        return Optional.ofNullable(statuses.getIfPresent(ticket));
+    }
+
+    private void drain() {
+        List<Submission> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Submission> batch) {
+        List<BatchItemResult> results;
+        try {
+            results = employeeService.saveEmployees(batch.stream().map(Submission::employee).toList());
+        } catch (RuntimeException e) {
+            // the whole transaction rolled back, so nothing of this batch was written
+            log.error("Failed to write {} queued employees", batch.size(), e);
+            batch.forEach(submission -> statuses.put(submission.ticket(), new EmployeeIngestStatus(submission.ticket(),
+                    EmployeeIngestStatus.State.FAILED, null, submission.employee().getEmail(), e.getMessage())));
+            return;
+        }
+        for (BatchItemResult result : results) {
+            Submission submission = batch.get(result.getIndex());
+            EmployeeIngestStatus.State state = result.getStatus() == BatchItemResult.Status.CREATED
+                    ? EmployeeIngestStatus.State.CREATED
+                    : EmployeeIngestStatus.State.DUPLICATE;
+            statuses.put(submission.ticket(),
+                    new EmployeeIngestStatus(submission.ticket(), state, result.getId(), result.getEmail(), null));
+        }
+    }
+
+    private record Submission(String ticket, Employee employee) {
+    }
+}
@@ -0,0 +1,241 @@
+package net.javaguides.springboot.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// In-memory inverted index over names and email for prefix search. Tokens are kept sorted, so every token
+// starting with a prefix is one sub-map range. Built once at startup and then kept current by EmployeeServiceImpl,
+// so rows changed behind the service's back (other instances, direct SQL) only show up after a restart.
+@Slf4j
+@Component
+public class EmployeeSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    // ids looked at per query; a one-letter prefix stops here instead of walking the whole table
+    private static final int MAX_CANDIDATES = 10_000;
+    private static final Comparator<ScoredEmployee> BY_RANK = Comparator
+            .comparingInt(ScoredEmployee::score).reversed()
+            .thenComparing(scored -> scored.employee().lastName())
+            .thenComparing(scored -> scored.employee().firstName())
+            .thenComparingLong(scored -> scored.employee().view().id());
+
+    private final EmployeeRepository employeeRepository;
+    private final NavigableMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedEmployee> employees = new ConcurrentHashMap<>();
+
+    public EmployeeSearchIndex(EmployeeRepository employeeRepository) {
+        this.employeeRepository = employeeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (this) {
+            try (Stream<Employee> all = employeeRepository.streamAll()) {
+                all.forEach(this::index);
+            }
+        }
+        log.info("Search index built with {} employees and {} tokens", employees.size(), tokens.size());
+    }
+
+    // Every query term must prefix-match a token of the employee. Whole-token matches rank above prefix matches,
+    // name matches above email matches of the same kind; ties are ordered by last name, first name, id.
+    // Candidates come from the longest term's token range, whose first key is the whole-token match, so when a
+    // short prefix hits MAX_CANDIDATES it is the weaker prefix matches that are left out.
+    public List<EmployeeView> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        String driver = terms.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Set<Long> seen = new HashSet<>();
+        PriorityQueue<ScoredEmployee> best = new PriorityQueue<>(limit + 1, BY_RANK.reversed());
+        walk:
+        for (Set<Long> ids : tokens.subMap(driver, true, driver + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                if (seen.size() == MAX_CANDIDATES) {
+                    break walk;
+                }
+                IndexedEmployee employee = seen.add(id) ? employees.get(id) : null;
+                int score = employee == null ? 0 : score(employee, terms);
+                if (score > 0) {
+                    best.add(new ScoredEmployee(employee, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+        }
+
+        List<ScoredEmployee> ranked = new ArrayList<>(best);
+        ranked.sort(BY_RANK);
+        return ranked.stream().map(scored -> scored.employee().view()).toList();
+    }
+
+    public void put(Employee employee) {
+        put(new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getVersion()));
+    }
+
+    public void put(EmployeeView employee) {
+        afterCommit(() -> {
+            synchronized (this) {
+                unindex(employees.get(employee.id()));
+                index(employee);
+            }
+        });
+    }
+
+    // applies a partial update on top of the indexed employee; null fields keep their current value
+    public void patch(long id, Employee patch) {
+        afterCommit(() -> {
+            synchronized (this) {
+                IndexedEmployee indexed = employees.get(id);
+                if (indexed == null) {
+                    return;
+                }
+                unindex(indexed);
+                EmployeeView current = indexed.view();
+                index(new EmployeeView(id,
+                        patch.getFirstName() != null ? patch.getFirstName() : current.firstName(),
+                        patch.getLastName() != null ? patch.getLastName() : current.lastName(),
+                        patch.getEmail() != null ? patch.getEmail() : current.email(),
+                        current.version() + 1));
+            }
+        });
+    }
+
+    public void remove(Collection<Long> ids) {
+        afterCommit(() -> {
+            synchronized (this) {
+                ids.forEach(id -> unindex(employees.get(id)));
+            }
+        });
+    }
+
+    private void index(Employee employee) {
+        index(new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getVersion()));
+    }
+
+    private void index(EmployeeView view) {
+        IndexedEmployee employee = IndexedEmployee.of(view);
+        employees.put(view.id(), employee);
+        for (String token : employee.tokens()) {
+            tokens.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(view.id());
+        }
+    }
+
+    private void unindex(IndexedEmployee employee) {
+        if (employee == null) {
+            return;
+        }
+        long id = employee.view().id();
+        employees.remove(id);
+        for (String token : employee.tokens()) {
+            tokens.computeIfPresent(token, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    // readers are lock free, so writes of a rolled back transaction must never reach the index
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // 0 when a term matches no token of the employee
+    private static int score(IndexedEmployee employee, List<String> terms) {
+        int score = 0;
+        for (String term : terms) {
+            // whole name token 4, whole email token 3, name prefix 2, email prefix 1
+            int name = matchScore(employee.nameTokens(), term);
+            int email = matchScore(employee.emailTokens(), term);
+            int termScore = Math.max(name == 0 ? 0 : 2 * name, email == 0 ? 0 : 2 * email - 1);
+            if (termScore == 0) {
+                return 0;
+            }
+            score += termScore;
+        }
+        return score;
+    }
+
+    private static int matchScore(List<String> tokens, String term) {
+        int best = 0;
+        for (String token : tokens) {
+            if (token.equals(term)) {
+                return 2;
+            }
+            if (token.startsWith(term)) {
+                best = 1;
+            }
+        }
+        return best;
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Stream.of(TOKEN_SEPARATOR.split(lowerCase(text)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private static String lowerCase(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    // tokens and sort keys are derived once at index time, queries never tokenize stored rows
+    private record IndexedEmployee(EmployeeView view, List<String> nameTokens, List<String> emailTokens,
+                                   String lastName, String firstName) {
+        static IndexedEmployee of(EmployeeView view) {
+            List<String> nameTokens = new ArrayList<>(tokenize(view.firstName()));
+            nameTokens.addAll(tokenize(view.lastName()));
+            return new IndexedEmployee(view, List.copyOf(nameTokens), tokenize(view.email()),
+                    lowerCase(view.lastName()), lowerCase(view.firstName()));
+        }
+
+        Set<String> tokens() {
+            Set<String> result = new HashSet<>(nameTokens);
+            result.addAll(emailTokens);
+            return result;
+        }
+    }
+
+    private record ScoredEmployee(IndexedEmployee employee, int score) {
+    }
+}
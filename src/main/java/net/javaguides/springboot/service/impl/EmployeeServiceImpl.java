@@ -1,49 +1,218 @@
 package net.javaguides.springboot.service.impl;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.AllArgsConstructor;
 import net.javaguides.springboot.exception.ResourceNotFoundException;
+import net.javaguides.springboot.model.BatchItemResult;
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeCollectionVersion;
+import net.javaguides.springboot.model.EmployeePage;
+import net.javaguides.springboot.model.EmployeeView;
 import net.javaguides.springboot.repository.EmployeeRepository;
 import net.javaguides.springboot.service.EmployeeService;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
+@Timed("employee.service")
 @AllArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
+    public static final String EMPLOYEE_CACHE = "employees";
+    // encoded list and by-id responses, see EmployeeResponseCache; any write clears it
+    public static final String EMPLOYEE_RESPONSE_CACHE = "employee-responses";
+    // keeps each IN list well below packet and parameter limits
+    private static final int DELETE_CHUNK_SIZE = 1000;
 
     private EmployeeRepository employeeRepository;
+    private EmployeeSearchIndex searchIndex;
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = EMPLOYEE_CACHE, key = "#result.id"),
+            @CacheEvict(cacheNames = EMPLOYEE_RESPONSE_CACHE, allEntries = true)
+    })
     public Employee saveEmployee(Employee employee) {
+        // insert straight away and let the unique index reject duplicates, which also holds for concurrent creates
+        try {
+            Employee savedEmployee = employeeRepository.save(employee);
+            searchIndex.put(savedEmployee);
+            return savedEmployee;
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, employee.getEmail());
+        }
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = EMPLOYEE_RESPONSE_CACHE, allEntries = true)
+    public List<BatchItemResult> saveEmployees(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return List.of();
+        }
+        Set<String> takenEmails = new HashSet<>(employeeRepository.findExistingEmails(
+                employees.stream().map(Employee::getEmail).toList()));
 
-        Optional<Employee> savedEmployee = employeeRepository.findByEmail(employee.getEmail());
-        if (savedEmployee.isPresent()) {
-            throw new ResourceNotFoundException("Employee already exists with given email:" + employee.getEmail());
+        BatchItemResult[] results = new BatchItemResult[employees.size()];
+        List<Integer> insertedIndexes = new ArrayList<>();
+        List<Employee> toInsert = new ArrayList<>();
+        for (int i = 0; i < employees.size(); i++) {
+            Employee employee = employees.get(i);
+            // add() also catches emails repeated inside the same batch
+            if (!takenEmails.add(employee.getEmail())) {
+                results[i] = new BatchItemResult(i, BatchItemResult.Status.DUPLICATE, null, employee.getEmail());
+                continue;
+            }
+            insertedIndexes.add(i);
+            toInsert.add(employee);
         }
-        return employeeRepository.save(employee);
+
+        employeeRepository.insertAll(toInsert);
+        toInsert.forEach(searchIndex::put);
+        for (int i = 0; i < toInsert.size(); i++) {
+            Employee employee = toInsert.get(i);
+            int index = insertedIndexes.get(i);
+            results[index] = new BatchItemResult(index, BatchItemResult.Status.CREATED, employee.getId(), employee.getEmail());
+        }
+        return List.of(results);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<Employee> getAllEmployees() {
         return employeeRepository.findAll();
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeView> getAllEmployeeViews() {
+        return employeeRepository.findAllViews();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeCollectionVersion getCollectionVersion() {
+        return employeeRepository.findCollectionVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage getEmployees(long after, int limit) {
+        // fetch one extra row to find out whether another page exists
+        List<EmployeeView> employees = employeeRepository.findViewsByIdGreaterThan(after, PageRequest.of(0, limit + 1));
+        if (employees.size() <= limit) {
+            return new EmployeePage(employees, null);
+        }
+        List<EmployeeView> content = employees.subList(0, limit);
+        return new EmployeePage(content, content.get(limit - 1).id());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEmployees(Consumer<Employee> consumer) {
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            employees.forEach(consumer);
+        }
+    }
+
+    // read-write on purpose: this load feeds the PUT read-modify-write, which must see the primary's row and
+    // version, while the repository's own read-only transaction would be routed to a replica
+    @Override
+    @Transactional
     public Optional<Employee> getEmployeeById(long id) {
         return employeeRepository.findById(id);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = EMPLOYEE_CACHE, key = "#id", unless = "#result == null")
+    public Optional<EmployeeView> getEmployeeViewById(long id) {
+        return employeeRepository.findViewById(id);
+    }
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = EMPLOYEE_CACHE, key = "#updatedEmployee.id"),
+            @CacheEvict(cacheNames = EMPLOYEE_RESPONSE_CACHE, allEntries = true)
+    })
     public Employee updateEmployee(Employee updatedEmployee) {
-        return employeeRepository.save(updatedEmployee);
+        Employee savedEmployee = employeeRepository.save(updatedEmployee);
+        searchIndex.put(savedEmployee);
+        return savedEmployee;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = EMPLOYEE_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = EMPLOYEE_RESPONSE_CACHE, allEntries = true)
+    })
+    public boolean patchEmployee(long id, Employee patch) {
+        try {
+            if (employeeRepository.patchEmployee(id, patch.getFirstName(), patch.getLastName(), patch.getEmail()) == 0) {
+                return false;
+            }
+            searchIndex.patch(id, patch);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEmail(e, patch.getEmail());
+        }
     }
 
     @Override
-    public void deleteEmployee(long id) {
-        employeeRepository.deleteById(id);
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = EMPLOYEE_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = EMPLOYEE_RESPONSE_CACHE, allEntries = true)
+    })
+    public boolean deleteEmployee(long id) {
+        if (employeeRepository.deleteEmployeeById(id) == 0) {
+            return false;
+        }
+        searchIndex.remove(List.of(id));
+        return true;
+    }
+
+    @Override
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = EMPLOYEE_CACHE, allEntries = true),
+            @CacheEvict(cacheNames = EMPLOYEE_RESPONSE_CACHE, allEntries = true)
+    })
+    public int deleteEmployees(List<Long> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += DELETE_CHUNK_SIZE) {
+            deleted += employeeRepository.deleteEmployeesByIds(ids.subList(from, Math.min(from + DELETE_CHUNK_SIZE, ids.size())));
+        }
+        searchIndex.remove(ids);
+        return deleted;
+    }
+
+    @Override
+    public List<EmployeeView> searchEmployees(String query, int limit) {
+        return searchIndex.search(query, limit);
+    }
+
+    private static RuntimeException translateDuplicateEmail(DataIntegrityViolationException e, String email) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase().contains(Employee.EMAIL_UNIQUE_INDEX)) {
+            return new ResourceNotFoundException("Employee already exists with given email:" + email, e);
+        }
+        return e;
     }
 }
@@ -0,0 +1,61 @@
+package net.javaguides.springboot.service.impl;
+
+import lombok.AllArgsConstructor;
+import net.javaguides.springboot.exception.ResourceNotFoundException;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.repository.ReactiveEmployeeRepository;
+import net.javaguides.springboot.service.ReactiveEmployeeService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Override
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return employeeRepository.insert(employee)
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail, e -> duplicateEmail(e, employee));
+    }
+
+    @Override
+    public Flux<Employee> getAllEmployees() {
+        return employeeRepository.streamAll();
+    }
+
+    @Override
+    public Mono<Employee> getEmployeeById(long id) {
+        return employeeRepository.findById(id);
+    }
+
+    @Override
+    public Mono<Employee> updateEmployee(long id, Employee employee) {
+        employee.setId(id);
+        return employeeRepository.update(employee)
+                .filter(updated -> updated > 0)
+                // the update bumps the version in SQL, read the row back so the response carries the stored one
+                .flatMap(updated -> employeeRepository.findById(id))
+                .onErrorMap(ReactiveEmployeeServiceImpl::isDuplicateEmail, e -> duplicateEmail(e, employee));
+    }
+
+    @Override
+    public Mono<Boolean> deleteEmployee(long id) {
+        return employeeRepository.deleteEmployeeById(id).map(deleted -> deleted > 0);
+    }
+
+    private static boolean isDuplicateEmail(Throwable e) {
+        return e instanceof DataIntegrityViolationException
+                && e.getMessage() != null
+                && e.getMessage().toLowerCase().contains(Employee.EMAIL_UNIQUE_INDEX);
+    }
+
+    private static ResourceNotFoundException duplicateEmail(Throwable e, Employee employee) {
+        return new ResourceNotFoundException("Employee already exists with given email:" + employee.getEmail(), e);
+    }
+}
@@ -0,0 +1,73 @@
+package net.javaguides.springboot.config;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.service.EmployeeService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the routing configuration with the JPA transaction manager, one in-memory H2 database as the primary and
+// another as the replica. The replica holds a stale copy of the row so each read shows where it was served from.
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.replicas[0].url=" + DataSourceRoutingConfigTests.REPLICA_URL,
+        "app.datasource.routing.replicas[0].username=sa",
+        "app.datasource.routing.replicas[0].password="
+})
+public class DataSourceRoutingConfigTests {
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @BeforeAll
+    public static void createReplica() {
+        replica().execute("create table employees (id bigint primary key, first_name varchar(255) not null, "
+                + "last_name varchar(255) not null, email varchar(255) not null, version bigint not null)");
+    }
+
+    @AfterAll
+    public static void dropReplica() {
+        replica().execute("shutdown");
+    }
+
+    @DisplayName("Junit test for getEmployeeById and getAllEmployeeViews through the JPA transaction manager")
+    @Test
+    public void givenStaleReplica_whenGetEmployeeById_thenReadFromPrimary() {
+
+        //given - precondition
+        Employee employee = employeeService.saveEmployee(Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .build());
+        replica().update("insert into employees (id, first_name, last_name, email, version) values (?, ?, ?, ?, ?)",
+                employee.getId(), "Stale", "kumar", "mani@gmail.com", 0L);
+
+        //when - action or behaviour that we are going to test
+        Employee forUpdate = employeeService.getEmployeeById(employee.getId()).get();
+        List<EmployeeView> views = employeeService.getAllEmployeeViews();
+
+        //then - verify the output
+        assertThat(forUpdate.getFirstName()).isEqualTo("Mani");
+        assertThat(views).extracting(EmployeeView::firstName).containsExactly("Stale");
+
+    }
+
+    private static JdbcTemplate replica() {
+        return new JdbcTemplate(new SingleConnectionDataSource(REPLICA_URL, "sa", "", true));
+    }
+}
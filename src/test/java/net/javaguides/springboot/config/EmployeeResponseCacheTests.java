@@ -0,0 +1,148 @@
+package net.javaguides.springboot.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.javaguides.springboot.model.EmployeeView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeResponseCacheTests {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeeResponseCache responseCache;
+    private List<EmployeeView> employees;
+
+    @BeforeEach
+    public void setup() {
+        responseCache = new EmployeeResponseCache(new ConcurrentMapCache("employee-responses"), objectMapper, true);
+        employees = List.of(new EmployeeView(1L, "Mani", "kumar", "mani@gmail.com", 0L));
+    }
+
+    // Junit test for serving cached bytes
+    @DisplayName("Junit test for serving cached bytes")
+    @Test
+    public void givenCachedResponse_whenRespond_thenSerializeOnce() throws Exception {
+
+        //given - precondition
+        AtomicInteger loads = new AtomicInteger();
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+
+        //when - action or behaviour that we are going to test
+        responseCache.respond("all:1-1-0", request, () -> {
+            loads.incrementAndGet();
+            return employees;
+        });
+        ResponseEntity<Object> response = responseCache.respond("all:1-1-0", request, () -> {
+            loads.incrementAndGet();
+            return employees;
+        });
+
+        //then - verify the output
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/json");
+        assertThat((byte[]) response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(employees));
+        assertThat(responseCache.eTag("1-1-0", request)).isEqualTo("1-1-0");
+
+    }
+
+    // Junit test for serving the gzip variant
+    @DisplayName("Junit test for serving the gzip variant")
+    @Test
+    public void givenGzipAcceptingClient_whenRespond_thenReturnGzipBody() throws Exception {
+
+        //given - precondition
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader("Accept-Encoding", "gzip, deflate");
+        ServletWebRequest request = new ServletWebRequest(servletRequest);
+
+        //when - action or behaviour that we are going to test
+        ResponseEntity<Object> response = responseCache.respond("1:0", request, () -> employees.get(0));
+
+        //then - verify the output
+        assertThat(response.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).containsExactly("Accept", "Accept-Encoding");
+        assertThat(gunzip((byte[]) response.getBody())).isEqualTo(objectMapper.writeValueAsBytes(employees.get(0)));
+        assertThat(responseCache.eTag("0", request)).isEqualTo("0-gzip");
+
+    }
+
+    // Junit test for a client refusing gzip
+    @DisplayName("Junit test for a client refusing gzip")
+    @Test
+    public void givenGzipRefusingClient_whenRespond_thenReturnPlainBody() throws Exception {
+
+        //given - precondition
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest();
+        servletRequest.addHeader("Accept-Encoding", "identity, gzip;q=0");
+        ServletWebRequest request = new ServletWebRequest(servletRequest);
+
+        //when - action or behaviour that we are going to test
+        ResponseEntity<Object> response = responseCache.respond("1:0", request, () -> employees.get(0));
+
+        //then - verify the output
+        assertThat(response.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat((byte[]) response.getBody()).isEqualTo(objectMapper.writeValueAsBytes(employees.get(0)));
+        assertThat(responseCache.eTag("0", request)).isEqualTo("0");
+
+    }
+
+    // Junit test for parsing Accept-Encoding
+    @DisplayName("Junit test for parsing Accept-Encoding")
+    @Test
+    public void givenAcceptEncodingHeaders_whenAcceptsGzip_thenHonourQValues() {
+
+        //given - precondition
+        List<String> accepting = List.of("gzip", "br, GZIP;q=0.5", "*");
+        List<String> refusing = Arrays.asList("gzip;q=0", "gzip; q=0.000, *", "*;q=0", "identity", null);
+
+        //when - action or behaviour that we are going to test
+
+        //then - verify the output
+        assertThat(accepting).allMatch(EmployeeResponseCache::acceptsGzip);
+        assertThat(refusing).noneMatch(EmployeeResponseCache::acceptsGzip);
+
+    }
+
+    // Junit test for the Server-Timing header on cached responses
+    @DisplayName("Junit test for the Server-Timing header on cached responses")
+    @Test
+    public void givenTimedRequest_whenRespond_thenReturnServerTimingHeader() {
+
+        //given - precondition
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest());
+        ServerTiming.start();
+
+        //when - action or behaviour that we are going to test
+        ResponseEntity<Object> response;
+        try {
+            response = responseCache.respond("all:1-1-0", request, () -> employees);
+        } finally {
+            ServerTiming.clear();
+        }
+
+        //then - verify the output
+        assertThat(response.getHeaders().getFirst(ServerTiming.HEADER))
+                .startsWith("total;dur=")
+                .contains("serialization;dur=");
+
+    }
+
+    private static byte[] gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        }
+    }
+}
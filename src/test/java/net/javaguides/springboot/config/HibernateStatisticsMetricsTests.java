@@ -0,0 +1,45 @@
+package net.javaguides.springboot.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(MetricsConfig.class)
+public class HibernateStatisticsMetricsTests {
+    @Autowired
+    private HibernateStatisticsMetrics hibernateStatisticsMetrics;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Test
+    @DisplayName("Junit test for Hibernate statistics meters")
+    public void givenSavedEmployee_whenQueried_thenStatementAndLoadCountersIncrease() {
+
+        //given - precondition
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        hibernateStatisticsMetrics.bindTo(registry);
+        double statementsBefore = registry.get("hibernate.statements").functionCounter().count();
+        employeeRepository.saveAndFlush(Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@outlook.com")
+                .build());
+
+        //when - action or behaviour that we are going to test
+        employeeRepository.findByJPQL("Mani", "kumar");
+
+        //then - verify the output
+        assertThat(registry.get("hibernate.statements").functionCounter().count()).isGreaterThan(statementsBefore);
+        assertThat(registry.get("hibernate.entities.inserts").functionCounter().count()).isGreaterThan(0);
+        assertThat(registry.get("hibernate.flushes").functionCounter().count()).isGreaterThan(0);
+
+    }
+}
@@ -0,0 +1,124 @@
+package net.javaguides.springboot.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+// Two embedded H2 databases stand in for the primary and the replica, each holding its own name
+public class ReadWriteRoutingDataSourceTests {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaPool replicaPool;
+    private ReadYourWritesTracker readYourWrites;
+
+    @BeforeEach
+    public void setup() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        readYourWrites.clear();
+        replicaPool.close();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @DisplayName("Junit test for routing read-only transactions to the replica")
+    @Test
+    public void givenReadOnlyTransaction_whenQuery_thenServedByReplica() {
+
+        //given - precondition
+        DataSource routing = routing(List.of(replica), Duration.ZERO);
+
+        //when - action or behaviour that we are going to test
+        String reader = currentNode(routing, true);
+        String writer = currentNode(routing, false);
+
+        //then - verify the output
+        assertThat(reader).isEqualTo("replica");
+        assertThat(writer).isEqualTo("primary");
+
+    }
+
+    @DisplayName("Junit test for reads staying on the primary after a client's write")
+    @Test
+    public void givenRecentWrite_whenReadOnlyTransaction_thenServedByPrimary() {
+
+        //given - precondition
+        DataSource routing = routing(List.of(replica), Duration.ofMinutes(1));
+        readYourWrites.bind("client-1");
+        currentNode(routing, false);
+
+        //when - action or behaviour that we are going to test
+        String ownRead = currentNode(routing, true);
+        readYourWrites.bind("client-2");
+        String otherRead = currentNode(routing, true);
+
+        //then - verify the output
+        assertThat(ownRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+
+    }
+
+    @DisplayName("Junit test for ejecting a failing replica")
+    @Test
+    public void givenFailingReplica_whenReadOnlyTransaction_thenEjectAndUseHealthyReplica() throws SQLException {
+
+        //given - precondition
+        DataSource broken = mock(DataSource.class);
+        given(broken.getConnection()).willThrow(new SQLException("replica down"));
+        DataSource routing = routing(List.of(broken, replica), Duration.ZERO);
+
+        //when - action or behaviour that we are going to test
+        List<String> readers = List.of(currentNode(routing, true), currentNode(routing, true), currentNode(routing, true));
+
+        //then - verify the output
+        assertThat(readers).containsOnly("replica");
+        assertThat(replicaPool.healthyReplicas()).isEqualTo(1);
+
+    }
+
+    private DataSource routing(List<DataSource> replicas, Duration readYourWritesWindow) {
+        replicaPool = new ReplicaPool(replicas, Duration.ofMinutes(1));
+        readYourWrites = new ReadYourWritesTracker(readYourWritesWindow);
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replicaPool, readYourWrites));
+    }
+
+    private static String currentNode(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("select name from node", String.class));
+    }
+
+    private static EmbeddedDatabase database(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table node (name varchar(20))");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return database;
+    }
+}
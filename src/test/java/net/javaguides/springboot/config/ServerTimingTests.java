@@ -0,0 +1,147 @@
+package net.javaguides.springboot.config;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.service.EmployeeImportService;
+import net.javaguides.springboot.service.EmployeeService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(properties = "app.server-timing.enabled=true")
+@Import({ServerTimingConfig.class, BinaryContentConfig.class})
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@ExtendWith(OutputCaptureExtension.class)
+public class ServerTimingTests {
+    @Autowired
+    private MockMvc mockMvc;
+    @MockBean
+    private EmployeeService employeeService;
+    @MockBean
+    private EmployeeImportService employeeImportService;
+
+    // Junit test for Server-Timing header on a JSON response
+    @DisplayName("Junit test for Server-Timing header on a JSON response")
+    @Test
+    public void givenTimingEnabled_whenGetEmployeeById_thenReturnServerTimingHeader() throws Exception {
+
+        //given - precondition
+        given(employeeService.getEmployeeViewById(1L)).willReturn(Optional.of(
+                new EmployeeView(1L, "Mani", "kumar", "mani@gmail.com", 0L)));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("mani@gmail.com"))
+                .andExpect(header().string(ServerTiming.HEADER, allOf(
+                        matchesPattern("total;dur=\\d+\\.\\d{2}, controller;dur=.*"),
+                        containsString("service;dur="),
+                        containsString("db-acquire;dur="),
+                        containsString("sql;dur=0.00;desc=\"0 statements\""),
+                        containsString("serialization;dur="))));
+
+    }
+
+    // Junit test for Server-Timing header on a CBOR response
+    @DisplayName("Junit test for Server-Timing header on a CBOR response")
+    @Test
+    public void givenTimingEnabled_whenGetEmployeeByIdAsCbor_thenReturnServerTimingHeader() throws Exception {
+
+        //given - precondition
+        given(employeeService.getEmployeeViewById(1L)).willReturn(Optional.of(
+                new EmployeeView(1L, "Mani", "kumar", "mani@gmail.com", 0L)));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", 1L)
+                .accept(MediaType.APPLICATION_CBOR));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(ServerTiming.HEADER, allOf(
+                        containsString("total;dur="),
+                        containsString("serialization;dur="))));
+
+    }
+
+    // Junit test for Server-Timing header on a response without body
+    @DisplayName("Junit test for Server-Timing header on a response without body")
+    @Test
+    public void givenTimingEnabled_whenDeleteEmployee_thenReturnServerTimingHeader() throws Exception {
+
+        //given - precondition
+        given(employeeService.deleteEmployee(1L)).willReturn(false);
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees/{id}", 1L));
+
+        //then - verify the output
+        response.andExpect(status().isNotFound())
+                .andExpect(header().string(ServerTiming.HEADER, allOf(
+                        containsString("total;dur="),
+                        containsString("serialization;dur=0.00"))));
+
+    }
+
+    // Junit test for the Server-Timing log line of the streaming export
+    @DisplayName("Junit test for the Server-Timing log line of the streaming export")
+    @Test
+    public void givenTimingEnabled_whenExportEmployees_thenLogTimingOnceStreamed(CapturedOutput output) throws Exception {
+
+        //given - precondition
+        willAnswer((invocation) -> {
+            Thread.sleep(200);
+            invocation.<Consumer<Employee>>getArgument(0).accept(Employee.builder().id(1L).email("mani@gmail.com").build());
+            return null;
+        }).given(employeeService).exportEmployees(any());
+
+        //when - action or behaviour that we are going to test
+        MvcResult result = mockMvc.perform(get("/api/employees/export")).andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andExpect(content().string(containsString("mani@gmail.com")));
+        Matcher logLine = Pattern.compile("server-timing GET /api/employees/export status=200 total;dur=(\\d+\\.\\d+)")
+                .matcher(output.getOut());
+        assertThat(logLine.find()).isTrue();
+        assertThat(Double.parseDouble(logLine.group(1))).isGreaterThanOrEqualTo(200);
+        assertThat(logLine.find()).isFalse();
+
+    }
+}
@@ -0,0 +1,90 @@
+package net.javaguides.springboot.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.StatementType;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlLoggingListenerTests {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SqlLoggingListener.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final SqlLoggingProperties properties = new SqlLoggingProperties();
+
+    @BeforeEach
+    public void setup() {
+        appender.start();
+        logger.addAppender(appender);
+        properties.setSlowQueryThreshold(Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("Junit test for SqlLoggingListener with a slow statement")
+    public void givenSlowStatement_whenAfterQuery_thenLogWarnWithParameters() throws Exception {
+
+        //given - precondition
+        properties.setSampleRate(0);
+        QueryInfo queryInfo = new QueryInfo("select * from employees where email = ?");
+        queryInfo.getParametersList().add(List.of(new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setString", int.class, String.class), new Object[]{1, "mani@gmail.com"})));
+
+        //when - action or behaviour that we are going to test
+        new SqlLoggingListener(properties).afterQuery(execution(150), List.of(queryInfo));
+
+        //then - verify the output
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.WARN);
+        assertThat(appender.list.get(0).getFormattedMessage())
+                .contains("durationMs=150", "slow=true", "query=\"select * from employees where email = ?\"", "params=[(mani@gmail.com)]");
+
+    }
+
+    @Test
+    @DisplayName("Junit test for SqlLoggingListener sampling of fast statements")
+    public void givenFastStatements_whenAfterQuery_thenLogOnlyWhenSampled() {
+
+        //given - precondition
+        List<QueryInfo> queries = List.of(new QueryInfo("select * from employees"));
+
+        //when - action or behaviour that we are going to test
+        properties.setSampleRate(0);
+        new SqlLoggingListener(properties).afterQuery(execution(5), queries);
+        properties.setSampleRate(1);
+        new SqlLoggingListener(properties).afterQuery(execution(5), queries);
+
+        //then - verify the output
+        assertThat(appender.list).hasSize(1);
+        assertThat(appender.list.get(0).getLevel()).isEqualTo(Level.INFO);
+        assertThat(appender.list.get(0).getFormattedMessage()).contains("slow=false");
+
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo execution = new ExecutionInfo();
+        execution.setElapsedTime(elapsedMillis);
+        execution.setSuccess(true);
+        execution.setStatementType(StatementType.PREPARED);
+        execution.setDataSourceName("dataSource");
+        return execution;
+    }
+}
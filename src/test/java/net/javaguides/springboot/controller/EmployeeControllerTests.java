@@ -1,7 +1,18 @@
 package net.javaguides.springboot.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import net.javaguides.springboot.exception.InvalidImportException;
+import net.javaguides.springboot.model.BatchItemResult;
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeCollectionVersion;
+import net.javaguides.springboot.model.EmployeePage;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.model.EmployeeImportReport;
+import net.javaguides.springboot.model.EmployeeIngestStatus;
+import net.javaguides.springboot.service.EmployeeIngestService;
+import net.javaguides.springboot.service.EmployeeImportService;
 import net.javaguides.springboot.service.EmployeeService;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -18,14 +29,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 
@@ -37,6 +51,10 @@ class EmployeeControllerTests {
     private MockMvc mockMvc;
     @MockBean
     private EmployeeService employeeService;
+    @MockBean
+    private EmployeeImportService employeeImportService;
+    @MockBean
+    private EmployeeIngestService employeeIngestService;
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -71,10 +89,11 @@ class EmployeeControllerTests {
     public void givenListOfEmployees_whenGetAllEmployees_thenReturnsEmployeeList() throws Exception {
 
         //given - precondition
-        List<Employee> listOfEmployees = new ArrayList<>();
-        listOfEmployees.add(Employee.builder().firstName("mani").lastName("kumar").email("mani@gmail.com").build());
-        listOfEmployees.add(Employee.builder().firstName("bond").lastName("james").email("bond@gmail.com").build());
-        given(employeeService.getAllEmployees()).willReturn(listOfEmployees);
+        List<EmployeeView> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(new EmployeeView(1L, "mani", "kumar", "mani@gmail.com", 0L));
+        listOfEmployees.add(new EmployeeView(2L, "bond", "james", "bond@gmail.com", 0L));
+        given(employeeService.getCollectionVersion()).willReturn(new EmployeeCollectionVersion(2L, 2L, 0L));
+        given(employeeService.getAllEmployeeViews()).willReturn(listOfEmployees);
 
         //when - action or behaviour that we are going to test
         ResultActions response = mockMvc.perform(get("/api/employees"));
@@ -82,6 +101,7 @@ class EmployeeControllerTests {
         //then - verify the output
         response.andExpect(status().isOk())
                 .andDo(print())
+                .andExpect(header().string("ETag", "\"2-2-0\""))
                 .andExpect(jsonPath("$.size()", is(listOfEmployees.size())));
 
     }
@@ -97,7 +117,8 @@ class EmployeeControllerTests {
                 .lastName("kumar")
                 .email("mani@gmail.com")
                 .build();
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(employee));
+        given(employeeService.getEmployeeViewById(employeeId)).willReturn(Optional.of(
+                new EmployeeView(employeeId, employee.getFirstName(), employee.getLastName(), employee.getEmail(), 0L)));
 
         //when - action or behaviour that we are going to test
         ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId));
@@ -122,7 +143,7 @@ class EmployeeControllerTests {
                 .lastName("kumar")
                 .email("mani@gmail.com")
                 .build();
-        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.empty());
+        given(employeeService.getEmployeeViewById(employeeId)).willReturn(Optional.empty());
 
         //when - action or behaviour that we are going to test
         ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId));
@@ -204,7 +225,7 @@ class EmployeeControllerTests {
 
         //given - precondition
         long employeeId = 1L;
-        willDoNothing().given(employeeService).deleteEmployee(employeeId);
+        given(employeeService.deleteEmployee(employeeId)).willReturn(true);
 
         //when - action or behaviour that we are going to test
         ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
@@ -215,5 +236,538 @@ class EmployeeControllerTests {
 
     }
 
+    // Junit test for keyset paginated getEmployees REST API
+    @Test
+    public void givenCursorAndLimit_whenGetEmployees_thenReturnEmployeePage() throws Exception {
+
+        //given - precondition
+        List<EmployeeView> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(new EmployeeView(11L, "mani", "kumar", "mani@gmail.com", 0L));
+        listOfEmployees.add(new EmployeeView(12L, "bond", "james", "bond@gmail.com", 0L));
+        given(employeeService.getEmployees(10L, 2)).willReturn(new EmployeePage(listOfEmployees, 12L));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .param("after", "10")
+                .param("limit", "2"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.content.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$.nextCursor", is(12)));
+
+    }
+
+    // Junit test for streaming exportEmployees REST API
+    @Test
+    public void givenListOfEmployees_whenExportEmployees_thenStreamOneJsonLinePerEmployee() throws Exception {
+
+        //given - precondition
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("mani").lastName("kumar").email("mani@gmail.com").build());
+        listOfEmployees.add(Employee.builder().firstName("bond").lastName("james").email("bond@gmail.com").build());
+        willAnswer((invocation) -> {
+            Consumer<Employee> consumer = invocation.getArgument(0);
+            listOfEmployees.forEach(consumer);
+            return null;
+        }).given(employeeService).exportEmployees(any());
+
+        //when - action or behaviour that we are going to test
+        MvcResult result = mockMvc.perform(get("/api/employees/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        ResultActions response = mockMvc.perform(asyncDispatch(result));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(listOfEmployees.get(0)) + "\n"
+                        + objectMapper.writeValueAsString(listOfEmployees.get(1)) + "\n"));
+
+    }
+
+    // Junit test for batch createEmployees REST API
+    @Test
+    public void givenListOfEmployees_whenCreateEmployees_thenReturnPerItemResults() throws Exception {
+
+        //given - precondition
+        List<Employee> listOfEmployees = new ArrayList<>();
+        listOfEmployees.add(Employee.builder().firstName("mani").lastName("kumar").email("mani@gmail.com").build());
+        listOfEmployees.add(Employee.builder().firstName("bond").lastName("james").email("mani@gmail.com").build());
+        given(employeeService.saveEmployees(anyList())).willReturn(List.of(
+                new BatchItemResult(0, BatchItemResult.Status.CREATED, 1L, "mani@gmail.com"),
+                new BatchItemResult(1, BatchItemResult.Status.DUPLICATE, null, "mani@gmail.com")));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(listOfEmployees)));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(jsonPath("$[0].status", is("CREATED")))
+                .andExpect(jsonPath("$[1].status", is("DUPLICATE")));
+
+    }
+
+    // Junit test for Patch Employee REST API - positive Case
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenReturn204() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        Employee patch = Employee.builder()
+                .email("tim@gmail.com")
+                .build();
+        given(employeeService.patchEmployee(eq(employeeId), any(Employee.class))).willReturn(true);
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"tim@gmail.com\"}"));
+
+        //then - verify the output
+        response.andExpect(status().isNoContent())
+                .andDo(print());
+
+    }
+
+    // Junit test for Patch Employee REST API - Negative Case
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenReturn404() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        given(employeeService.patchEmployee(eq(employeeId), any(Employee.class))).willReturn(false);
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(patch("/api/employees/{id}", employeeId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"tim@gmail.com\"}"));
+
+        //then - verify the output
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+
+    }
+
+    // Junit test for delete employee REST API - Negative Case
+    @Test
+    public void givenInvalidEmployeeId_whenDeleteEmployee_thenReturn404() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        given(employeeService.deleteEmployee(employeeId)).willReturn(false);
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees/{id}", employeeId));
+
+        //then - verify the output
+        response.andExpect(status().isNotFound())
+                .andDo(print());
+
+    }
+
+    // Junit test for bulk delete employees REST API
+    @Test
+    public void givenEmployeeIds_whenDeleteEmployees_thenReturnDeletedCount() throws Exception {
+
+        //given - precondition
+        given(employeeService.deleteEmployees(List.of(1L, 2L, 3L))).willReturn(2);
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(delete("/api/employees").param("ids", "1,2,3"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(content().string("2 employees deleted Successfully!"));
+
+    }
+
+    // Junit test for search employees REST API
+    @Test
+    public void givenQuery_whenSearchEmployees_thenReturnMatchesWithinLimit() throws Exception {
+
+        //given - precondition
+        given(employeeService.searchEmployees("man ku", 100)).willReturn(List.of(
+                new EmployeeView(1L, "Mani", "kumar", "mani@gmail.com", 0L)));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/search")
+                .param("q", "man ku")
+                .param("limit", "5000"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].email", is("mani@gmail.com")));
+
+    }
+
+    // Junit test for asynchronous createEmployee REST API
+    @Test
+    public void givenRespondAsyncPreference_whenCreateEmployee_thenReturnAcceptedWithStatusUrl() throws Exception {
+
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .build();
+        given(employeeIngestService.submit(any(Employee.class))).willReturn(Optional.of(new EmployeeIngestStatus(
+                "ticket-1", EmployeeIngestStatus.State.QUEUED, null, employee.getEmail(), null)));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        //then - verify the output
+        response.andExpect(status().isAccepted())
+                .andDo(print())
+                .andExpect(header().string("Location", "/api/employees/async/ticket-1"))
+                .andExpect(header().string("Preference-Applied", "respond-async"))
+                .andExpect(jsonPath("$.state", is("QUEUED")));
+        verify(employeeService, never()).saveEmployee(any(Employee.class));
+
+    }
+
+    // Junit test for asynchronous createEmployee REST API - Negative Case-queue full
+    @Test
+    public void givenFullIngestQueue_whenCreateEmployeeAsync_thenReturnTooManyRequests() throws Exception {
+
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .build();
+        given(employeeIngestService.submit(any(Employee.class))).willReturn(Optional.empty());
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        //then - verify the output
+        response.andExpect(status().isTooManyRequests())
+                .andDo(print())
+                .andExpect(header().string("Retry-After", "1"));
+
+    }
+
+    // Junit test for asynchronous createEmployee REST API - Negative Case-incomplete employee
+    @Test
+    public void givenIncompleteEmployee_whenCreateEmployeeAsync_thenReturnBadRequest() throws Exception {
+
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("Mani")
+                .build();
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .header("Prefer", "respond-async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employee)));
+
+        //then - verify the output
+        response.andExpect(status().isBadRequest())
+                .andDo(print());
+        verify(employeeIngestService, never()).submit(any(Employee.class));
+
+    }
+
+    // Junit test for ingest status REST API
+    @Test
+    public void givenTicket_whenGetIngestStatus_thenReturnStatus() throws Exception {
+
+        //given - precondition
+        given(employeeIngestService.getStatus("ticket-1")).willReturn(Optional.of(new EmployeeIngestStatus(
+                "ticket-1", EmployeeIngestStatus.State.CREATED, 7L, "mani@gmail.com", null)));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/async/{ticket}", "ticket-1"));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.state", is("CREATED")))
+                .andExpect(jsonPath("$.id", is(7)));
+
+    }
+
+    // Junit test for conditional GetEmployeeById REST API
+    @Test
+    public void givenCurrentETag_whenGetEmployeeById_thenReturnNotModified() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        given(employeeService.getEmployeeViewById(employeeId)).willReturn(Optional.of(
+                new EmployeeView(employeeId, "Mani", "kumar", "mani@gmail.com", 3L)));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .header("If-None-Match", "\"3\""));
+
+        //then - verify the output
+        response.andExpect(status().isNotModified())
+                .andDo(print())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(content().string(""));
+
+    }
+
+    // Junit test for conditional getAllEmployees REST API
+    @Test
+    public void givenCurrentCollectionETag_whenGetAllEmployees_thenSkipLoadingEmployees() throws Exception {
+
+        //given - precondition
+        given(employeeService.getCollectionVersion()).willReturn(new EmployeeCollectionVersion(2L, 5L, 4L));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees")
+                .header("If-None-Match", "\"2-5-4\""));
+
+        //then - verify the output
+        response.andExpect(status().isNotModified())
+                .andDo(print());
+        verify(employeeService, never()).getAllEmployeeViews();
+
+    }
+
+    // Junit test for Update Employee REST API - Negative Case-stale If-Match
+    @Test
+    public void givenStaleIfMatch_whenUpdateEmployee_thenReturnPreconditionFailed() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        Employee savedEmployee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .version(2L)
+                .build();
+        Employee updatedEmployee = Employee.builder()
+                .firstName("tim")
+                .lastName("cook")
+                .email("tim@gmail.com")
+                .build();
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        //then - verify the output
+        response.andExpect(status().isPreconditionFailed())
+                .andDo(print());
+        verify(employeeService, never()).updateEmployee(any(Employee.class));
+
+    }
+
+    // Junit test for Update Employee REST API - If-Match with the gzip representation's ETag
+    @Test
+    public void givenGzipIfMatch_whenUpdateEmployee_thenReturnUpdatedEmployee() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        Employee savedEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .version(2L)
+                .build();
+        Employee updatedEmployee = Employee.builder()
+                .firstName("tim")
+                .lastName("cook")
+                .email("tim@gmail.com")
+                .build();
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
+        given(employeeService.updateEmployee(any(Employee.class))).willAnswer((invocation) -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setVersion(3L);
+            return employee;
+        });
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"2-gzip\"")
+                .header("Accept-Encoding", "gzip")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(updatedEmployee)));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(header().string("ETag", "\"3\""))
+                .andExpect(jsonPath("$.firstName", is(updatedEmployee.getFirstName())));
+
+    }
+
+    // Junit test for GetEmployeeById REST API - CBOR representation
+    @Test
+    public void givenCborAccept_whenGetEmployeeById_thenReturnCborEmployee() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        EmployeeView employee = new EmployeeView(employeeId, "Mani", "kumar", "mani@gmail.com", 3L);
+        given(employeeService.getEmployeeViewById(employeeId)).willReturn(Optional.of(employee));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(get("/api/employees/{id}", employeeId)
+                .accept(MediaType.APPLICATION_CBOR));
+
+        //then - verify the output
+        byte[] body = response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"3-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(employee, new CBORMapper().readValue(body, EmployeeView.class));
+
+    }
+
+    // Junit test for Update Employee REST API - CBOR round trip with If-Match
+    @Test
+    public void givenCborIfMatch_whenUpdateEmployee_thenReturnCborEmployeeWithCborETag() throws Exception {
+
+        //given - precondition
+        long employeeId = 1L;
+        Employee savedEmployee = Employee.builder()
+                .id(employeeId)
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .version(2L)
+                .build();
+        Employee updatedEmployee = Employee.builder()
+                .firstName("tim")
+                .lastName("cook")
+                .email("tim@gmail.com")
+                .build();
+        given(employeeService.getEmployeeById(employeeId)).willReturn(Optional.of(savedEmployee));
+        given(employeeService.updateEmployee(any(Employee.class))).willAnswer((invocation) -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setVersion(3L);
+            return employee;
+        });
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(put("/api/employees/{id}", employeeId)
+                .header("If-Match", "\"2-cbor\"")
+                .accept(MediaType.APPLICATION_CBOR)
+                .contentType(MediaType.APPLICATION_CBOR)
+                .content(new CBORMapper().writeValueAsBytes(updatedEmployee)));
+
+        //then - verify the output
+        byte[] body = response.andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string("ETag", "\"3-cbor\""))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals("tim@gmail.com", new CBORMapper().readValue(body, Employee.class).getEmail());
+
+    }
+
+    // Junit test for createEmployee REST API - Smile representation
+    @Test
+    public void givenSmileEmployee_whenCreateEmployee_thenReturnSmileEmployee() throws Exception {
+
+        //given - precondition
+        SmileMapper smileMapper = new SmileMapper();
+        Employee employee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .build();
+        given(employeeService.saveEmployee(any(Employee.class)))
+                .willAnswer((invocation) -> invocation.getArgument(0));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees")
+                .contentType("application/x-jackson-smile")
+                .accept("application/x-jackson-smile")
+                .content(smileMapper.writeValueAsBytes(employee)));
+
+        //then - verify the output
+        byte[] body = response.andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(employee.getEmail(), smileMapper.readValue(body, Employee.class).getEmail());
+
+    }
+
+    // Junit test for CSV import REST API
+    @Test
+    public void givenCsvUpload_whenImportEmployees_thenReturnImportReport() throws Exception {
+
+        //given - precondition
+        String csv = "firstName,lastName,email\nMani,kumar,mani@gmail.com\n";
+        given(employeeImportService.importCsv(any(InputStream.class))).willReturn(
+                new EmployeeImportReport(1, 1, 0, 0, 0, 5, 200.0, List.of()));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/import")
+                .contentType("text/csv")
+                .content(csv));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rowsPerSecond", is(200.0)));
+
+    }
+
+    // Junit test for streamed JSON import REST API
+    @Test
+    public void givenJsonArrayUpload_whenImportEmployees_thenReturnImportReport() throws Exception {
+
+        //given - precondition
+        String json = "[{\"firstName\":\"Mani\",\"lastName\":\"kumar\",\"email\":\"mani@gmail.com\"}]";
+        given(employeeImportService.importJson(any(InputStream.class))).willReturn(
+                new EmployeeImportReport(1, 1, 0, 0, 0, 5, 200.0, List.of()));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json));
+
+        //then - verify the output
+        response.andExpect(status().isOk())
+                .andDo(print())
+                .andExpect(jsonPath("$.imported", is(1)));
+        verify(employeeImportService, never()).importCsv(any(InputStream.class));
+
+    }
+
+    // Junit test for streamed JSON import REST API - Negative Case-body is no array
+    @Test
+    public void givenJsonObjectUpload_whenImportEmployees_thenReturnBadRequest() throws Exception {
+
+        //given - precondition
+        given(employeeImportService.importJson(any(InputStream.class)))
+                .willThrow(new InvalidImportException("expected a JSON array of employees"));
+
+        //when - action or behaviour that we are going to test
+        ResultActions response = mockMvc.perform(post("/api/employees/import")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"));
+
+        //then - verify the output
+        response.andExpect(status().isBadRequest())
+                .andDo(print())
+                .andExpect(content().string("expected a JSON array of employees"));
+
+    }
 
-}
\ No newline at end of file
+}
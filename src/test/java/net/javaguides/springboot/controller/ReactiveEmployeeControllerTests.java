@@ -0,0 +1,104 @@
+package net.javaguides.springboot.controller;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.service.ReactiveEmployeeService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@WebFluxTest
+@ActiveProfiles("reactive")
+class ReactiveEmployeeControllerTests {
+    @Autowired
+    private WebTestClient webTestClient;
+    @MockBean
+    private ReactiveEmployeeService employeeService;
+
+    // Junit test for reactive createEmployee REST API
+    @Test
+    public void givenEmployeeObject_whenCreateEmployee_thenReturnSavedEmployee() {
+
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .build();
+        given(employeeService.saveEmployee(any(Employee.class)))
+                .willAnswer((invocation) -> Mono.just(invocation.getArgument(0)));
+
+        //when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.post().uri("/api/employees")
+                .bodyValue(employee)
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo(employee.getFirstName())
+                .jsonPath("$.email").isEqualTo(employee.getEmail());
+
+    }
+
+    // Junit test for reactive streaming getAllEmployees REST API
+    @Test
+    public void givenListOfEmployees_whenStreamAllEmployees_thenReturnNdjson() {
+
+        //given - precondition
+        Employee employee = Employee.builder().id(1L).firstName("Mani").lastName("kumar").email("mani@gmail.com").build();
+        Employee employee1 = Employee.builder().id(2L).firstName("James").lastName("bond").email("james@gmail.com").build();
+        given(employeeService.getAllEmployees()).willReturn(Flux.just(employee, employee1));
+
+        //when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Employee.class).hasSize(2);
+
+    }
+
+    // Junit test for reactive getEmployeeById REST API (negative scenario)
+    @Test
+    public void givenInvalidEmployeeId_whenGetEmployeeById_thenReturnEmpty() {
+
+        //given - precondition
+        given(employeeService.getEmployeeById(1L)).willReturn(Mono.empty());
+
+        //when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", 1L).exchange();
+
+        //then - verify the output
+        response.expectStatus().isNotFound();
+
+    }
+
+    // Junit test for reactive deleteEmployee REST API
+    @Test
+    public void givenEmployeeId_whenDeleteEmployee_thenReturn200() {
+
+        //given - precondition
+        given(employeeService.deleteEmployee(1L)).willReturn(Mono.just(true));
+
+        //when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.delete().uri("/api/employees/{id}", 1L).exchange();
+
+        //then - verify the output
+        response.expectStatus().isOk()
+                .expectBody(String.class).isEqualTo("Employee deleted Successfully!");
+
+    }
+
+}
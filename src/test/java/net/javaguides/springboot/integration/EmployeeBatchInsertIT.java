@@ -0,0 +1,70 @@
+package net.javaguides.springboot.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.model.BatchItemResult;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import net.javaguides.springboot.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Throughput comparison of the single-insert create path against the batched one. The rates are logged, not asserted,
+// wall-clock ratios are too noisy on shared CI
+@Slf4j
+@SpringBootTest
+public class EmployeeBatchInsertIT extends AbstractContainerBaseTest {
+
+    private static final int ROWS = 2000;
+
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void givenManyEmployees_whenSaveEmployees_thenInsertEveryRow() {
+
+        //given - precondition
+        List<Employee> singles = employees("single");
+        List<Employee> batch = employees("batch");
+
+        //when - action or behaviour that we are going to test
+        long singleStart = System.nanoTime();
+        singles.forEach(employeeService::saveEmployee);
+        long singleNanos = System.nanoTime() - singleStart;
+
+        long batchStart = System.nanoTime();
+        List<BatchItemResult> results = employeeService.saveEmployees(batch);
+        long batchNanos = System.nanoTime() - batchStart;
+
+        log.info("single inserts: {} rows/s, batched inserts: {} rows/s",
+                Math.round(ROWS / (singleNanos / 1e9)), Math.round(ROWS / (batchNanos / 1e9)));
+
+        //then - verify the output
+        assertThat(results).allMatch(result -> result.getStatus() == BatchItemResult.Status.CREATED);
+        assertThat(employeeRepository.count()).isEqualTo(2L * ROWS);
+
+    }
+
+    private static List<Employee> employees(String prefix) {
+        return IntStream.range(0, ROWS)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("first" + i)
+                        .lastName("last" + i)
+                        .email(prefix + i + "@gmail.com")
+                        .build())
+                .toList();
+    }
+}
@@ -20,12 +20,14 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willDoNothing;
+import static net.javaguides.springboot.support.SqlStatementCountMatchers.sqlStatements;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.sql-statements.header-enabled=true")
 @AutoConfigureMockMvc
 public class EmployeeControllerITests {
     @Autowired
@@ -61,7 +63,9 @@ public class EmployeeControllerITests {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.firstName", is(employee.getFirstName())))
                 .andExpect(jsonPath("$.lastName", is(employee.getLastName())))
-                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+                .andExpect(jsonPath("$.email", is(employee.getEmail())))
+                .andExpect(sqlStatements().inserts(1))
+                .andExpect(sqlStatements().total(1));
 
     }
 
@@ -81,7 +85,9 @@ public class EmployeeControllerITests {
         //then - verify the output
         response.andExpect(status().isOk())
                 .andDo(print())
-                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())));
+                .andExpect(jsonPath("$.size()", is(listOfEmployees.size())))
+                .andExpect(sqlStatements().selects(2))
+                .andExpect(sqlStatements().total(2));
 
     }
 
@@ -106,7 +112,9 @@ public class EmployeeControllerITests {
                 .andDo(print())
                 .andExpect(jsonPath("$.firstName", is(employee.getFirstName())))
                 .andExpect(jsonPath("$.lastName", is(employee.getLastName())))
-                .andExpect(jsonPath("$.email", is(employee.getEmail())));
+                .andExpect(jsonPath("$.email", is(employee.getEmail())))
+                .andExpect(sqlStatements().selects(1))
+                .andExpect(sqlStatements().total(1));
 
     }
 
@@ -128,7 +136,8 @@ public class EmployeeControllerITests {
 
         //then - verify the output
         response.andExpect(status().isNotFound())
-                .andDo(print());
+                .andDo(print())
+                .andExpect(sqlStatements().selects(1));
 
     }
 
@@ -211,7 +220,9 @@ public class EmployeeControllerITests {
 
         //then - verify the output
         response.andExpect(status().isOk())
-                .andDo(print());
+                .andDo(print())
+                .andExpect(sqlStatements().deletes(1))
+                .andExpect(sqlStatements().total(1));
 
     }
 
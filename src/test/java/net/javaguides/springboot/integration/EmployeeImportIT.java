@@ -0,0 +1,121 @@
+package net.javaguides.springboot.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeImportReport;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import net.javaguides.springboot.service.EmployeeImportService;
+import net.javaguides.springboot.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Throughput comparison of the CSV import against looping over saveEmployee, and a streamed JSON import. The rates
+// are logged, not asserted, wall-clock ratios are too noisy on shared CI
+@Slf4j
+@SpringBootTest
+public class EmployeeImportIT extends AbstractContainerBaseTest {
+
+    private static final int SINGLE_ROWS = 2000;
+    private static final int IMPORT_ROWS = 200_000;
+
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private EmployeeImportService employeeImportService;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+    }
+
+    @Test
+    public void givenLargeCsvFile_whenImportCsv_thenImportEveryRow(@TempDir Path directory) throws IOException {
+
+        //given - precondition
+        Path file = directory.resolve("employees.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("firstName,lastName,email\n");
+            for (int i = 0; i < IMPORT_ROWS; i++) {
+                writer.write("first" + i + ",last" + i + ",import" + i + "@gmail.com\n");
+            }
+        }
+
+        //when - action or behaviour that we are going to test
+        long singleStart = System.nanoTime();
+        IntStream.range(0, SINGLE_ROWS).forEach(i -> employeeService.saveEmployee(Employee.builder()
+                .firstName("first" + i)
+                .lastName("last" + i)
+                .email("single" + i + "@gmail.com")
+                .build()));
+        double singleRowsPerSecond = SINGLE_ROWS / ((System.nanoTime() - singleStart) / 1e9);
+
+        EmployeeImportReport report = employeeImportService.importCsv(file);
+
+        log.info("single inserts: {} rows/s, csv import: {} rows/s", Math.round(singleRowsPerSecond),
+                Math.round(report.rowsPerSecond()));
+
+        //then - verify the output
+        assertThat(report.imported()).isEqualTo(IMPORT_ROWS);
+        assertThat(report.rejected()).isZero();
+        assertThat(employeeRepository.count()).isEqualTo(SINGLE_ROWS + IMPORT_ROWS);
+
+    }
+
+    @Test
+    public void givenGeneratedJsonArray_whenImportJson_thenStreamEveryElement() throws IOException {
+
+        //given - precondition
+        // the body is produced while it is read, so neither side ever holds the whole array
+        Iterator<byte[]> elements = IntStream.range(0, IMPORT_ROWS)
+                .mapToObj(i -> ((i == 0 ? "[" : ",") + "{\"firstName\":\"first" + i + "\",\"lastName\":\"last" + i
+                        + "\",\"email\":\"json" + i + "@gmail.com\"}").getBytes(StandardCharsets.UTF_8))
+                .iterator();
+        InputStream body = new SequenceInputStream(new Enumeration<>() {
+            private boolean closed;
+
+            @Override
+            public boolean hasMoreElements() {
+                return elements.hasNext() || !closed;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (elements.hasNext()) {
+                    return new ByteArrayInputStream(elements.next());
+                }
+                closed = true;
+                return new ByteArrayInputStream("]".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = employeeImportService.importJson(body);
+
+        log.info("json import: {} rows/s", Math.round(report.rowsPerSecond()));
+
+        //then - verify the output
+        assertThat(report.imported()).isEqualTo(IMPORT_ROWS);
+        assertThat(report.rejected()).isZero();
+        assertThat(employeeRepository.count()).isEqualTo(IMPORT_ROWS);
+
+    }
+}
@@ -0,0 +1,206 @@
+package net.javaguides.springboot.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Configurable with -Dload.rate=<requests per second>, -Dload.warmup / -Dload.duration=<ISO-8601 duration>,
+// -Dload.mix=create=10,get=50,... and -Dload.output=<directory>
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.show-sql=false"
+})
+public class EmployeeLoadIT {
+    private static final int SEEDED_EMPLOYEES = 1000;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> employeeIds = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Test
+    public void givenEmployeeRequestMix_whenOfferedAtFixedRate_thenRecordLatencyPerEndpoint() throws IOException {
+
+        //given - precondition
+        int rate = Integer.getInteger("load.rate", 200);
+        Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+        Duration duration = Duration.parse(System.getProperty("load.duration", "PT20S"));
+        String mix = System.getProperty("load.mix", "create=10,get=50,list=20,update=10,delete=10");
+        Path output = Path.of(System.getProperty("load.output", "target/load-test"));
+
+        List<Employee> employees = IntStream.range(0, SEEDED_EMPLOYEES)
+                .mapToObj(i -> newEmployee())
+                .toList();
+        employeeRepository.insertAll(employees);
+        employees.forEach(employee -> employeeIds.add(employee.getId()));
+
+        OpenModelLoadGenerator generator = new OpenModelLoadGenerator(operations(mix));
+
+        //when - action or behaviour that we are going to test
+        Map<String, OpenModelLoadGenerator.EndpointResult> results = generator.run(rate, warmup, duration);
+
+        //then - verify the output
+        write(output, rate, warmup, duration, mix, results);
+        OpenModelLoadGenerator.EndpointResult total = results.get("total");
+        assertThat(total.requests()).isGreaterThan(0);
+        // a get or update can still race with the delete of the same id
+        assertThat(total.errors()).isLessThan(Math.max(1, total.requests() / 100));
+
+    }
+
+    private List<OpenModelLoadGenerator.Operation> operations(String mix) {
+        Map<String, OpenModelLoadGenerator.Operation> available = new LinkedHashMap<>();
+        available.put("create", new OpenModelLoadGenerator.Operation("create", 0,
+                () -> json(HttpRequest.newBuilder(uri("/api/employees")), "POST", newEmployee()),
+                (request, response) -> {
+                    try {
+                        addId(objectMapper.readValue(response.body(), Employee.class).getId());
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+        available.put("get", new OpenModelLoadGenerator.Operation("get", 0,
+                () -> withRandomId(id -> HttpRequest.newBuilder(uri("/api/employees/" + id)).build()),
+                (request, response) -> {
+                }));
+        available.put("list", new OpenModelLoadGenerator.Operation("list", 0,
+                () -> withRandomId(id -> HttpRequest.newBuilder(uri("/api/employees?limit=20&after=" + id)).build()),
+                (request, response) -> {
+                }));
+        available.put("update", new OpenModelLoadGenerator.Operation("update", 0,
+                () -> withRandomId(id -> json(HttpRequest.newBuilder(uri("/api/employees/" + id)), "PUT", newEmployee())),
+                (request, response) -> {
+                }));
+        available.put("delete", new OpenModelLoadGenerator.Operation("delete", 0,
+                () -> {
+                    Long id = removeRandomId();
+                    return id == null ? null : HttpRequest.newBuilder(uri("/api/employees/" + id)).DELETE().build();
+                },
+                (request, response) -> {
+                }));
+
+        List<OpenModelLoadGenerator.Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] nameAndWeight = entry.trim().split("=");
+            OpenModelLoadGenerator.Operation operation = available.get(nameAndWeight[0]);
+            assertThat(operation).as("operation " + nameAndWeight[0]).isNotNull();
+            operations.add(new OpenModelLoadGenerator.Operation(operation.name(), Integer.parseInt(nameAndWeight[1]),
+                    operation.request(), operation.onResponse()));
+        }
+        return operations;
+    }
+
+    private Employee newEmployee() {
+        long i = sequence.incrementAndGet();
+        return Employee.builder()
+                .firstName("first" + i)
+                .lastName("last" + i)
+                .email("load" + i + "@gmail.com")
+                .build();
+    }
+
+    private HttpRequest json(HttpRequest.Builder builder, String method, Employee employee) {
+        try {
+            return builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(employee)))
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private synchronized void addId(long id) {
+        employeeIds.add(id);
+    }
+
+    private synchronized HttpRequest withRandomId(LongFunction<HttpRequest> request) {
+        if (employeeIds.isEmpty()) {
+            return null;
+        }
+        return request.apply(employeeIds.get(ThreadLocalRandom.current().nextInt(employeeIds.size())));
+    }
+
+    private synchronized Long removeRandomId() {
+        if (employeeIds.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(employeeIds.size());
+        Long id = employeeIds.get(index);
+        employeeIds.set(index, employeeIds.get(employeeIds.size() - 1));
+        employeeIds.remove(employeeIds.size() - 1);
+        return id;
+    }
+
+    private void write(Path output, int rate, Duration warmup, Duration duration, String mix,
+                       Map<String, OpenModelLoadGenerator.EndpointResult> results) throws IOException {
+        Files.createDirectories(output);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("rate", rate);
+        report.put("warmup", warmup.toString());
+        report.put("duration", duration.toString());
+        report.put("mix", mix);
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (OpenModelLoadGenerator.EndpointResult result : results.values()) {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("name", result.name());
+            endpoint.put("requests", result.requests());
+            endpoint.put("errors", result.errors());
+            endpoint.put("skipped", result.skipped());
+            endpoint.put("throughput", result.throughput());
+            endpoint.put("p50Millis", result.p50Millis());
+            endpoint.put("p99Millis", result.p99Millis());
+            endpoint.put("p999Millis", result.p999Millis());
+            endpoint.put("maxMillis", result.maxMillis());
+            endpoints.add(endpoint);
+            log.info("{} requests={} errors={} throughput={}/s p50={}ms p99={}ms p999={}ms",
+                    result.name(), result.requests(), result.errors(), "%.1f".formatted(result.throughput()),
+                    "%.2f".formatted(result.p50Millis()), "%.2f".formatted(result.p99Millis()),
+                    "%.2f".formatted(result.p999Millis()));
+
+            // full percentile distribution in milliseconds, readable by HdrHistogram's plotting tools
+            try (PrintStream out = new PrintStream(Files.newOutputStream(output.resolve(result.name() + ".hgrm")))) {
+                result.histogram().outputPercentileDistribution(out, 1e6);
+            }
+        }
+        report.put("endpoints", endpoints);
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.resolve("employee-load.json").toFile(), report);
+    }
+}
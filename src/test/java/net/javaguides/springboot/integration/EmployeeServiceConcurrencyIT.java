@@ -0,0 +1,84 @@
+package net.javaguides.springboot.integration;
+
+import net.javaguides.springboot.exception.ResourceNotFoundException;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import net.javaguides.springboot.service.EmployeeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class EmployeeServiceConcurrencyIT extends AbstractContainerBaseTest {
+
+    private static final int THREADS = 16;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void setup() {
+        employeeRepository.deleteAll();
+    }
+
+    // Stress test: concurrent creates with the same email must produce exactly one row
+    @Test
+    public void givenConcurrentCreatesWithSameEmail_whenSaveEmployee_thenOnlyOneSucceeds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+
+                //given - precondition
+                String email = "race" + round + "@gmail.com";
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Employee>> futures = new ArrayList<>();
+
+                //when - action or behaviour that we are going to test
+                for (int i = 0; i < THREADS; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return employeeService.saveEmployee(Employee.builder()
+                                .firstName("Mani")
+                                .lastName("kumar")
+                                .email(email)
+                                .build());
+                    }));
+                }
+                start.countDown();
+
+                int created = 0;
+                int duplicates = 0;
+                for (Future<Employee> future : futures) {
+                    try {
+                        future.get();
+                        created++;
+                    } catch (ExecutionException e) {
+                        assertThat(e.getCause()).isInstanceOf(ResourceNotFoundException.class);
+                        duplicates++;
+                    }
+                }
+
+                //then - verify the output
+                assertThat(created).isEqualTo(1);
+                assertThat(duplicates).isEqualTo(THREADS - 1);
+                assertThat(employeeRepository.findByEmail(email)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
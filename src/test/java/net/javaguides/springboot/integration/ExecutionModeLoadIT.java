@@ -0,0 +1,110 @@
+package net.javaguides.springboot.integration;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.SpringBootTestingApplication;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Boots the application once per execution mode against the MySQL container and drives the same closed-loop load
+@Slf4j
+public class ExecutionModeLoadIT extends AbstractContainerBaseTest {
+
+    private static final int CLIENTS = 1000;
+    private static final int REQUESTS_PER_CLIENT = 20;
+
+    record LoadResult(String mode, double requestsPerSecond, double p50Millis, double p99Millis, int errors) {
+    }
+
+    @Test
+    public void givenThousandConcurrentClients_whenComparingExecutionModes_thenReportThroughputAndP99() throws Exception {
+
+        //when - action or behaviour that we are going to test
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        //then - verify the output
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringBootTestingApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=" + MY_SQL_CONTAINER.getJdbcUrl(),
+                        "--spring.datasource.username=" + MY_SQL_CONTAINER.getUsername(),
+                        "--spring.datasource.password=" + MY_SQL_CONTAINER.getPassword(),
+                        "--spring.jpa.show-sql=false")) {
+
+            EmployeeRepository employeeRepository = context.getBean(EmployeeRepository.class);
+            employeeRepository.deleteAll();
+            employeeRepository.saveAll(IntStream.range(0, 100)
+                    .mapToObj(i -> Employee.builder()
+                            .firstName("first" + i)
+                            .lastName("last" + i)
+                            .email("user" + i + "@gmail.com")
+                            .build())
+                    .toList());
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            // keyset page reads always reach the database, unlike the cached by-id lookups
+            URI uri = URI.create("http://localhost:" + port + "/api/employees?limit=20");
+            HttpClient httpClient = HttpClient.newHttpClient();
+            AtomicInteger errors = new AtomicInteger();
+
+            long start = System.nanoTime();
+            List<long[]> latencies = new ArrayList<>();
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<long[]>> futures = new ArrayList<>();
+                for (int client = 0; client < CLIENTS; client++) {
+                    futures.add(clients.submit(() -> {
+                        long[] clientLatencies = new long[REQUESTS_PER_CLIENT];
+                        for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                            long sent = System.nanoTime();
+                            HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).build(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            clientLatencies[i] = System.nanoTime() - sent;
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                        return clientLatencies;
+                    }));
+                }
+                for (Future<long[]> future : futures) {
+                    latencies.add(future.get());
+                }
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            long[] sorted = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            return new LoadResult(virtualThreads ? "virtual" : "platform",
+                    sorted.length / elapsedSeconds,
+                    sorted[(int) (sorted.length * 0.50)] / 1e6,
+                    sorted[(int) (sorted.length * 0.99)] / 1e6,
+                    errors.get());
+        }
+    }
+}
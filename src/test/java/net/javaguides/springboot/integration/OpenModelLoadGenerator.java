@@ -0,0 +1,145 @@
+package net.javaguides.springboot.integration;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Open-model load: requests are released on a fixed schedule no matter how many are still in flight, and every
+// latency is measured from the moment the request was scheduled rather than sent, so a stalled server shows up in
+// the histograms instead of silently lowering the offered rate (coordinated omission).
+class OpenModelLoadGenerator {
+    private static final long HIGHEST_TRACKABLE_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    // One kind of request in the mix; the supplier returns null when it cannot build a request right now
+    record Operation(String name, int weight, Supplier<HttpRequest> request, ResponseHandler onResponse) {
+    }
+
+    interface ResponseHandler {
+        void handle(HttpRequest request, HttpResponse<String> response);
+    }
+
+    record EndpointResult(String name, long requests, long errors, long skipped, double throughput,
+                          double p50Millis, double p99Millis, double p999Millis, double maxMillis, Histogram histogram) {
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final Map<String, Recorder> recorders = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> skipped = new LinkedHashMap<>();
+
+    OpenModelLoadGenerator(List<Operation> operations) {
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        for (Operation operation : operations) {
+            recorders.put(operation.name(), new Recorder(HIGHEST_TRACKABLE_LATENCY, 3));
+            errors.put(operation.name(), new AtomicLong());
+            skipped.put(operation.name(), new AtomicLong());
+        }
+    }
+
+    // Offers ratePerSecond requests for the warmup, resets the histograms, then measures for the given duration
+    Map<String, EndpointResult> run(int ratePerSecond, Duration warmup, Duration duration) {
+        drive(ratePerSecond, warmup);
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(counter -> counter.set(0));
+        skipped.values().forEach(counter -> counter.set(0));
+
+        long measuredNanos = drive(ratePerSecond, duration);
+
+        Map<String, EndpointResult> results = new LinkedHashMap<>();
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_LATENCY, 3);
+        long totalErrors = 0;
+        long totalSkipped = 0;
+        for (Operation operation : operations) {
+            Histogram histogram = recorders.get(operation.name()).getIntervalHistogram();
+            long operationErrors = errors.get(operation.name()).get();
+            long operationSkipped = skipped.get(operation.name()).get();
+            total.add(histogram);
+            totalErrors += operationErrors;
+            totalSkipped += operationSkipped;
+            results.put(operation.name(), result(operation.name(), histogram, operationErrors, operationSkipped, measuredNanos));
+        }
+        results.put("total", result("total", total, totalErrors, totalSkipped, measuredNanos));
+        return results;
+    }
+
+    private long drive(int ratePerSecond, Duration duration) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        ConcurrentLinkedQueue<CompletableFuture<?>> inFlight = new ConcurrentLinkedQueue<>();
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick();
+            HttpRequest request = operation.request().get();
+            if (request == null) {
+                skipped.get(operation.name()).incrementAndGet();
+                continue;
+            }
+            long scheduledAt = intended;
+            inFlight.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .handle((response, failure) -> {
+                        recorders.get(operation.name()).recordValue(
+                                Math.min(System.nanoTime() - scheduledAt, HIGHEST_TRACKABLE_LATENCY));
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.get(operation.name()).incrementAndGet();
+                        } else {
+                            operation.onResponse().handle(request, response);
+                        }
+                        return null;
+                    }));
+            inFlight.removeIf(CompletableFuture::isDone);
+        }
+        inFlight.forEach(CompletableFuture::join);
+        return System.nanoTime() - start;
+    }
+
+    private Operation pick() {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("empty operation mix");
+    }
+
+    private static EndpointResult result(String name, Histogram histogram, long errors, long skipped, long elapsedNanos) {
+        return new EndpointResult(name, histogram.getTotalCount(), errors, skipped,
+                histogram.getTotalCount() / (elapsedNanos / 1e9),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()),
+                histogram);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
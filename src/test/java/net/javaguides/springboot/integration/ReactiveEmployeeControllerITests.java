@@ -0,0 +1,79 @@
+package net.javaguides.springboot.integration;
+
+import net.javaguides.springboot.model.Employee;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+// Boots the whole reactive profile (WebFlux, R2DBC and the JPA stack beside it) on its in-memory H2 defaults
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+public class ReactiveEmployeeControllerITests {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    // Junit test for reactive create and get by id REST API
+    @Test
+    public void givenEmployeeObject_whenCreateAndGetEmployee_thenReturnStoredEmployee() {
+
+        //given - precondition
+        Employee employee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@gmail.com")
+                .build();
+        Employee savedEmployee = webTestClient.post().uri("/api/employees")
+                .bodyValue(employee)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Employee.class)
+                .returnResult().getResponseBody();
+
+        //when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.get().uri("/api/employees/{id}", savedEmployee.getId())
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.firstName").isEqualTo(employee.getFirstName())
+                .jsonPath("$.email").isEqualTo(employee.getEmail());
+
+    }
+
+    // Junit test for reactive update employee REST API
+    @Test
+    public void givenSavedEmployee_whenUpdateEmployee_thenReturnStoredVersion() {
+
+        //given - precondition
+        Employee savedEmployee = webTestClient.post().uri("/api/employees")
+                .bodyValue(Employee.builder()
+                        .firstName("Ram")
+                        .lastName("Jadhav")
+                        .email("ram@gmail.com")
+                        .build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Employee.class)
+                .returnResult().getResponseBody();
+        Employee updatedEmployee = Employee.builder()
+                .firstName("Ram")
+                .lastName("Jadhav")
+                .email("ram@outlook.com")
+                .build();
+
+        //when - action or behaviour that we are going to test
+        WebTestClient.ResponseSpec response = webTestClient.put().uri("/api/employees/{id}", savedEmployee.getId())
+                .bodyValue(updatedEmployee)
+                .exchange();
+
+        //then - verify the output
+        response.expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.email").isEqualTo(updatedEmployee.getEmail())
+                .jsonPath("$.version").isEqualTo(savedEmployee.getVersion() + 1);
+
+    }
+}
@@ -0,0 +1,73 @@
+package net.javaguides.springboot.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javaguides.springboot.integration.AbstractContainerBaseTest;
+import net.javaguides.springboot.model.Employee;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compares bytes allocated per list read for managed entities against the EmployeeView projection
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class EmployeeProjectionAllocationIT extends AbstractContainerBaseTest {
+
+    private static final int ROWS = 1000;
+    private static final int ITERATIONS = 50;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    public void setup() {
+        employeeRepository.saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("first" + i)
+                        .lastName("last" + i)
+                        .email("user" + i + "@outlook.com")
+                        .build())
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void givenEmployees_whenFindAllViews_thenAllocateLessThanEntities() {
+
+        //when - action or behaviour that we are going to test
+        long entityBytes = allocatedPerCall(() -> employeeRepository.findAll());
+        long viewBytes = allocatedPerCall(() -> employeeRepository.findAllViews());
+
+        //then - verify the output
+        log.info("bytes allocated per findAll: entities {}, views {}", entityBytes, viewBytes);
+        assertThat(viewBytes).isLessThan(entityBytes);
+
+    }
+
+    private long allocatedPerCall(Runnable read) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        // warm up so class loading and query plan caching are not counted
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.run();
+            entityManager.clear();
+        }
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            read.run();
+            entityManager.clear();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+}
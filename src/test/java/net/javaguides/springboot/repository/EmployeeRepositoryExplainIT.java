@@ -0,0 +1,149 @@
+package net.javaguides.springboot.repository;
+
+import net.javaguides.springboot.config.DataSourceProxyConfig;
+import net.javaguides.springboot.integration.AbstractContainerBaseTest;
+import net.javaguides.springboot.model.Employee;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Calls every custom EmployeeRepository query, captures the SQL Hibernate sends through datasource-proxy and runs
+// EXPLAIN on it with the same parameters, failing on a full table scan. A changed @Query or derived query is therefore
+// checked as generated. streamAll, findAll, findAllViews and findCollectionVersion read the whole table by design and
+// are not listed.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceProxyConfig.class)
+public class EmployeeRepositoryExplainIT extends AbstractContainerBaseTest {
+    @Autowired
+    private EmployeeRepository employeeRepository;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private CapturedQueries capturedQueries;
+
+    private Employee employee;
+
+    static Stream<Arguments> customQueries() {
+        return Stream.of(
+                query("findViewById", (repository, e) -> repository.findViewById(e.getId())),
+                query("findByEmail", (repository, e) -> repository.findByEmail(e.getEmail())),
+                query("findByJPQL", (repository, e) -> repository.findByJPQL(e.getFirstName(), e.getLastName())),
+                query("findByJPQLNamedParams", (repository, e) -> repository.findByJPQLNamedParams(e.getFirstName(), e.getLastName())),
+                query("findByNativeSQL", (repository, e) -> repository.findByNativeSQL(e.getFirstName(), e.getLastName())),
+                query("findByNativeSQLNamed", (repository, e) -> repository.findByNativeSQLNamed(e.getFirstName(), e.getLastName())),
+                query("findViewsByIdGreaterThan", (repository, e) -> repository.findViewsByIdGreaterThan(e.getId(), PageRequest.of(0, 10))),
+                query("findExistingEmails", (repository, e) -> repository.findExistingEmails(List.of(e.getEmail(), "user8@outlook.com")))
+        );
+    }
+
+    private static Arguments query(String name, BiConsumer<EmployeeRepository, Employee> call) {
+        return Arguments.of(name, call);
+    }
+
+    @BeforeEach
+    public void setup() {
+        // enough rows for the optimizer to prefer an index over scanning the table
+        List<Employee> employees = employeeRepository.saveAll(IntStream.range(0, 200)
+                .mapToObj(i -> Employee.builder()
+                        .firstName("first" + i)
+                        .lastName("last" + i)
+                        .email("user" + i + "@outlook.com")
+                        .build())
+                .toList());
+        employeeRepository.flush();
+        employee = employees.get(7);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("customQueries")
+    public void givenCustomQuery_whenExplain_thenNoFullTableScan(String query, BiConsumer<EmployeeRepository, Employee> call) {
+
+        //given - precondition
+        capturedQueries.clear();
+        call.accept(employeeRepository, employee);
+        List<QueryInfo> statements = capturedQueries.drain();
+        assertThat(statements).as(query + " statements").isNotEmpty();
+
+        for (QueryInfo statement : statements) {
+            //when - action or behaviour that we are going to test
+            List<Map<String, Object>> plan = new JdbcTemplate(dataSource)
+                    .queryForList("explain " + statement.getQuery(), parameters(statement));
+
+            //then - verify the output
+            assertThat(plan).as(query + " plan of " + statement.getQuery()).allSatisfy(row -> {
+                assertThat(row.get("type")).as(query + " access type").isNotEqualTo("ALL");
+                assertThat(row.get("key")).as(query + " index").isNotNull();
+            });
+        }
+
+    }
+
+    // the values bound by Hibernate, in parameter index order
+    private static Object[] parameters(QueryInfo statement) {
+        if (statement.getParametersList().isEmpty()) {
+            return new Object[0];
+        }
+        return statement.getParametersList().get(0).stream()
+                .map(ParameterSetOperation::getArgs)
+                .sorted(Comparator.comparingInt(args -> (Integer) args[0]))
+                .map(args -> args[1])
+                .toArray();
+    }
+
+    @TestConfiguration
+    static class CapturedQueriesConfig {
+
+        @Bean
+        public CapturedQueries capturedQueries() {
+            return new CapturedQueries();
+        }
+    }
+
+    static class CapturedQueries implements QueryExecutionListener {
+        private final List<QueryInfo> queries = new ArrayList<>();
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            queries.addAll(queryInfoList);
+        }
+
+        synchronized void clear() {
+            queries.clear();
+        }
+
+        synchronized List<QueryInfo> drain() {
+            List<QueryInfo> drained = List.copyOf(queries);
+            queries.clear();
+            return drained;
+        }
+    }
+}
@@ -67,7 +67,7 @@ public class EmployeeRepositoryIT extends AbstractContainerBaseTest {
         Employee employee1 = Employee.builder()
                 .firstName("Mani")
                 .lastName("kumar")
-                .email("mani@outlook.com")
+                .email("mani.kumar@outlook.com")
                 .build();
 
         employeeRepository.save(employee);
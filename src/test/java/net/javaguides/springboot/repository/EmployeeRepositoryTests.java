@@ -1,6 +1,8 @@
 package net.javaguides.springboot.repository;
 
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeCollectionVersion;
+import net.javaguides.springboot.model.EmployeeView;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -9,14 +11,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @DataJpaTest
 public class EmployeeRepositoryTests {
     @Autowired
     private EmployeeRepository employeeRepository;
+    @Autowired
+    private TestEntityManager entityManager;
 
     private Employee employee;
 
@@ -65,7 +72,7 @@ public class EmployeeRepositoryTests {
         Employee employee1 = Employee.builder()
                 .firstName("Mani")
                 .lastName("kumar")
-                .email("mani@outlook.com")
+                .email("mani.kumar@outlook.com")
                 .build();
 
         employeeRepository.save(employee);
@@ -261,6 +268,139 @@ public class EmployeeRepositoryTests {
 
     }
 
+    // Junit test for batched insertAll method
+    @DisplayName("Junit test for batched insertAll method")
+    @Test
+    public void givenEmployeeList_whenInsertAll_thenAssignGeneratedIds() {
 
-}
+        //given - precondition
+        Employee employee1 = Employee.builder()
+                .firstName("James")
+                .lastName("bond")
+                .email("james@outlook.com")
+                .build();
+
+        //when - action or behaviour that we are going to test
+        employeeRepository.insertAll(List.of(employee, employee1));
+
+        //then - verify the output
+        assertThat(employee.getId()).isGreaterThan(0);
+        assertThat(employee1.getId()).isGreaterThan(employee.getId());
+        assertThat(employeeRepository.findExistingEmails(List.of("mani@outlook.com", "james@outlook.com", "none@outlook.com")))
+                .containsExactlyInAnyOrder("mani@outlook.com", "james@outlook.com");
+
+    }
+
+    // Junit test for single statement patchEmployee method
+    @DisplayName("Junit test for single statement patchEmployee method")
+    @Test
+    public void givenEmployeeObject_whenPatchEmployee_thenUpdateOnlySuppliedColumns() {
+
+        //given - precondition
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        int updated = employeeRepository.patchEmployee(employee.getId(), null, null, "kanta@outlook.com");
+        int missing = employeeRepository.patchEmployee(employee.getId() + 1, "none", null, null);
+        entityManager.clear();
+        Employee patchedEmployee = employeeRepository.findById(employee.getId()).get();
+
+        //then - verify the output
+        assertThat(updated).isEqualTo(1);
+        assertThat(missing).isEqualTo(0);
+        assertThat(patchedEmployee.getEmail()).isEqualTo("kanta@outlook.com");
+        assertThat(patchedEmployee.getFirstName()).isEqualTo("Mani");
+        assertThat(patchedEmployee.getVersion()).isEqualTo(employee.getVersion() + 1);
+
+    }
+
+    // Junit test for single statement delete methods
+    @DisplayName("Junit test for single statement delete methods")
+    @Test
+    public void givenEmployeeObjects_whenDeleteByIds_thenReturnAffectedRows() {
+
+        //given - precondition
+        Employee employee1 = Employee.builder()
+                .firstName("James")
+                .lastName("bond")
+                .email("james@outlook.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        //when - action or behaviour that we are going to test
+        int deleted = employeeRepository.deleteEmployeeById(employee.getId());
+        int deletedAgain = employeeRepository.deleteEmployeeById(employee.getId());
+        int bulkDeleted = employeeRepository.deleteEmployeesByIds(List.of(employee.getId(), employee1.getId()));
+
+        //then - verify the output
+        assertThat(deleted).isEqualTo(1);
+        assertThat(deletedAgain).isEqualTo(0);
+        assertThat(bulkDeleted).isEqualTo(1);
+
+    }
 
+    // Junit test for projection queries
+    @DisplayName("Junit test for projection queries")
+    @Test
+    public void givenEmployeeObject_whenFindViews_thenReturnEmployeeViews() {
+
+        //given - precondition
+        employeeRepository.save(employee);
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeView> employeeViews = employeeRepository.findAllViews();
+        EmployeeView employeeView = employeeRepository.findViewById(employee.getId()).get();
+
+        //then - verify the output
+        assertThat(employeeViews).containsExactly(employeeView);
+        assertThat(employeeView.email()).isEqualTo(employee.getEmail());
+        assertThat(employeeRepository.findViewsByIdGreaterThan(employee.getId(), PageRequest.of(0, 10))).isEmpty();
+
+    }
+
+    // Junit test for collection version query
+    @DisplayName("Junit test for collection version query")
+    @Test
+    public void givenEmployeeObjects_whenFindCollectionVersion_thenChangeOnEveryWrite() {
+
+        //given - precondition
+        employeeRepository.save(employee);
+        EmployeeCollectionVersion before = employeeRepository.findCollectionVersion();
+
+        //when - action or behaviour that we are going to test
+        employeeRepository.patchEmployee(employee.getId(), "Manu", null, null);
+        EmployeeCollectionVersion after = employeeRepository.findCollectionVersion();
+
+        //then - verify the output
+        assertThat(before).isEqualTo(new EmployeeCollectionVersion(1L, employee.getId(), 0L));
+        assertThat(after).isEqualTo(new EmployeeCollectionVersion(1L, employee.getId(), 1L));
+
+    }
+
+    // Junit test for streamAll method
+    @DisplayName("Junit test for streamAll method")
+    @Test
+    public void givenEmployeeObjects_whenStreamAll_thenReturnEveryEmployeeInIdOrder() {
+
+        //given - precondition
+        Employee employee1 = Employee.builder()
+                .firstName("John")
+                .lastName("Cena")
+                .email("cena@gmail.com")
+                .build();
+        employeeRepository.save(employee);
+        employeeRepository.save(employee1);
+
+        //when - action or behaviour that we are going to test
+        List<String> emails;
+        try (Stream<Employee> employees = employeeRepository.streamAll()) {
+            emails = employees.map(Employee::getEmail).toList();
+        }
+
+        //then - verify the output
+        assertThat(emails).containsExactly(employee.getEmail(), employee1.getEmail());
+
+    }
+
+}
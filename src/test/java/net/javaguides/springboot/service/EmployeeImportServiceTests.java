@@ -0,0 +1,182 @@
+package net.javaguides.springboot.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.javaguides.springboot.config.EmployeeImportProperties;
+import net.javaguides.springboot.exception.InvalidImportException;
+import net.javaguides.springboot.model.BatchItemResult;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeImportReport;
+import net.javaguides.springboot.service.impl.EmployeeImportServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeImportServiceTests {
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeImportServiceImpl employeeImportService;
+    private final List<Employee> saved = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void setup() {
+        EmployeeImportProperties properties = new EmployeeImportProperties();
+        properties.setChunkSize(2);
+        properties.setParallelism(2);
+        employeeImportService = new EmployeeImportServiceImpl(employeeService, properties, new ObjectMapper());
+        // stands in for the database: taken@outlook.com already exists, and every other email is stored once
+        Set<String> storedEmails = ConcurrentHashMap.newKeySet();
+        storedEmails.add("taken@outlook.com");
+        // lenient: a rejected body never reaches saveEmployees
+        lenient().when(employeeService.saveEmployees(anyList())).thenAnswer((invocation) -> {
+            List<Employee> employees = invocation.getArgument(0);
+            saved.addAll(employees);
+            return IntStream.range(0, employees.size())
+                    .mapToObj(i -> new BatchItemResult(i, storedEmails.add(employees.get(i).getEmail())
+                            ? BatchItemResult.Status.CREATED : BatchItemResult.Status.DUPLICATE, null, employees.get(i).getEmail()))
+                    .toList();
+        });
+    }
+
+    // Junit test for importCsv method with a streamed upload
+    @DisplayName("Junit test for importCsv method with a streamed upload")
+    @Test
+    public void givenCsvStream_whenImportCsv_thenReportImportedDuplicateAndRejectedRows() throws Exception {
+
+        //given - precondition
+        String csv = "\uFEFFfirstName,lastName,email\r\n"
+                + "Mani,kumar,mani@outlook.com\r\n"
+                + "\"Bond, James\",\"O\"\"Neil\",james@outlook.com\n"
+                + "Mani,again,mani@outlook.com\n"
+                + "Taken,row,taken@outlook.com\n"
+                + "\n"
+                + "missing,email\n"
+                + "blank,, blank@outlook.com\n"
+                + "Ravi,teja,ravi@outlook.com";
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = employeeImportService.importCsv(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        //then - verify the output
+        assertThat(report.rowsRead()).isEqualTo(7);
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.duplicates()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(0);
+        assertThat(report.rejectedRows()).containsExactly(
+                new EmployeeImportReport.RejectedRow(7, "expected 3 fields but found 2"),
+                new EmployeeImportReport.RejectedRow(8, "lastName is blank"));
+        assertThat(saved).extracting(Employee::getLastName).contains("O\"Neil");
+        assertThat(saved).extracting(Employee::getFirstName).contains("Bond, James", "Ravi");
+
+    }
+
+    // Junit test for importCsv method with a memory-mapped file
+    @DisplayName("Junit test for importCsv method with a memory-mapped file")
+    @Test
+    public void givenCsvFile_whenImportCsv_thenImportEveryRow(@TempDir Path directory) throws Exception {
+
+        //given - precondition
+        Path file = directory.resolve("employees.csv");
+        List<String> lines = IntStream.range(0, 101)
+                .mapToObj(i -> "First" + i + ",Last" + i + ",employee" + i + "@outlook.com")
+                .toList();
+        Files.write(file, lines);
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = employeeImportService.importCsv(file);
+
+        //then - verify the output
+        assertThat(report.rowsRead()).isEqualTo(101);
+        assertThat(report.imported()).isEqualTo(101);
+        assertThat(saved).hasSize(101);
+
+    }
+
+    // Junit test for importJson method
+    @DisplayName("Junit test for importJson method with a streamed JSON array")
+    @Test
+    public void givenJsonArrayStream_whenImportJson_thenImportChunksAndReportRejectedElements() throws Exception {
+
+        //given - precondition
+        String json = "[{\"firstName\":\"Mani\",\"lastName\":\"kumar\",\"email\":\"mani@outlook.com\"},"
+                + "{\"id\":9,\"firstName\":\"James\",\"lastName\":\"bond\",\"email\":\"james@outlook.com\",\"extra\":[1,2]},"
+                + "\"not an employee\","
+                + "{\"firstName\":\"No\",\"lastName\":\"email\"},"
+                + "{\"firstName\":\"Mani\",\"lastName\":\"again\",\"email\":\"mani@outlook.com\"},"
+                + "{\"firstName\":\"Ravi\",\"lastName\":\"teja\",\"email\":\"ravi@outlook.com\"}]";
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = employeeImportService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        //then - verify the output
+        assertThat(report.rowsRead()).isEqualTo(6);
+        assertThat(report.imported()).isEqualTo(3);
+        assertThat(report.duplicates()).isEqualTo(1);
+        assertThat(report.rejectedRows()).containsExactly(
+                new EmployeeImportReport.RejectedRow(3, "expected an employee object"),
+                new EmployeeImportReport.RejectedRow(4, "email is blank"));
+        assertThat(saved).extracting(Employee::getId).doesNotContain(9L);
+
+    }
+
+    // Junit test for importJson method
+    @DisplayName("Junit test for importJson method with a truncated body")
+    @Test
+    public void givenTruncatedJsonArray_whenImportJson_thenKeepRowsReadBeforeTheError() throws Exception {
+
+        //given - precondition
+        String json = "[{\"firstName\":\"Mani\",\"lastName\":\"kumar\",\"email\":\"mani@outlook.com\"},"
+                + "{\"firstName\":\"James\",\"lastName\":\"bond\",\"email\":\"james@outl";
+
+        //when - action or behaviour that we are going to test
+        EmployeeImportReport report = employeeImportService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        //then - verify the output
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.rejectedRows().get(0).reason()).startsWith("malformed JSON");
+
+    }
+
+    // Junit test for importJson method
+    @DisplayName("Junit test for importJson method with a body that is no array")
+    @Test
+    public void givenJsonObjectBody_whenImportJson_thenThrowsInvalidImportException() {
+
+        //given - precondition
+        String json = "{\"firstName\":\"Mani\",\"lastName\":\"kumar\",\"email\":\"mani@outlook.com\"}";
+
+        //when - action or behaviour that we are going to test
+        assertThrows(InvalidImportException.class, () -> employeeImportService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+
+        //then - verify the output
+        assertThat(saved).isEmpty();
+
+    }
+}
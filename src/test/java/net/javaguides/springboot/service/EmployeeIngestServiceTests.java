@@ -0,0 +1,115 @@
+package net.javaguides.springboot.service;
+
+import net.javaguides.springboot.config.EmployeeIngestProperties;
+import net.javaguides.springboot.model.BatchItemResult;
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeIngestStatus;
+import net.javaguides.springboot.service.impl.EmployeeIngestServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeIngestServiceTests {
+    @Mock
+    private EmployeeService employeeService;
+
+    private EmployeeIngestProperties properties;
+    private Employee employee;
+    private Employee employee1;
+
+    @BeforeEach
+    public void setup() {
+        properties = new EmployeeIngestProperties();
+        properties.setQueueCapacity(2);
+        employee = Employee.builder()
+                .firstName("Mani")
+                .lastName("kumar")
+                .email("mani@outlook.com")
+                .build();
+        employee1 = Employee.builder()
+                .firstName("James")
+                .lastName("bond")
+                .email("james@outlook.com")
+                .build();
+    }
+
+    // Junit test for submit method with a full queue
+    @DisplayName("Junit test for submit method with a full queue")
+    @Test
+    public void givenFullQueue_whenSubmit_thenReject() {
+
+        //given - precondition
+        // the writer is never started, so nothing leaves the queue
+        EmployeeIngestServiceImpl ingestService = new EmployeeIngestServiceImpl(employeeService, properties);
+        ingestService.submit(employee);
+        ingestService.submit(employee1);
+
+        //when - action or behaviour that we are going to test
+        boolean accepted = ingestService.submit(employee).isPresent();
+
+        //then - verify the output
+        assertThat(accepted).isFalse();
+        verify(employeeService, never()).saveEmployees(anyList());
+
+    }
+
+    // Junit test for the background writer
+    @DisplayName("Junit test for the background writer draining the queue in one batch")
+    @Test
+    public void givenQueuedEmployees_whenWriterDrains_thenReportCreatedAndDuplicate() throws Exception {
+
+        //given - precondition
+        given(employeeService.saveEmployees(List.of(employee, employee1))).willReturn(List.of(
+                new BatchItemResult(0, BatchItemResult.Status.CREATED, 7L, employee.getEmail()),
+                new BatchItemResult(1, BatchItemResult.Status.DUPLICATE, null, employee1.getEmail())));
+        EmployeeIngestServiceImpl ingestService = new EmployeeIngestServiceImpl(employeeService, properties);
+        EmployeeIngestStatus queued = ingestService.submit(employee).get();
+        EmployeeIngestStatus queued1 = ingestService.submit(employee1).get();
+
+        //when - action or behaviour that we are going to test
+        ingestService.start();
+        ingestService.stop();
+
+        //then - verify the output
+        assertThat(queued.state()).isEqualTo(EmployeeIngestStatus.State.QUEUED);
+        assertThat(ingestService.getStatus(queued.ticket()).get().state()).isEqualTo(EmployeeIngestStatus.State.CREATED);
+        assertThat(ingestService.getStatus(queued.ticket()).get().id()).isEqualTo(7L);
+        assertThat(ingestService.getStatus(queued1.ticket()).get().state()).isEqualTo(EmployeeIngestStatus.State.DUPLICATE);
+        verify(employeeService, times(1)).saveEmployees(anyList());
+
+    }
+
+    // Junit test for the background writer with a failing batch
+    @DisplayName("Junit test for the background writer with a failing batch")
+    @Test
+    public void givenFailingBatch_whenWriterDrains_thenReportFailed() throws Exception {
+
+        //given - precondition
+        given(employeeService.saveEmployees(anyList())).willThrow(new QueryTimeoutException("timeout"));
+        EmployeeIngestServiceImpl ingestService = new EmployeeIngestServiceImpl(employeeService, properties);
+        EmployeeIngestStatus queued = ingestService.submit(employee).get();
+
+        //when - action or behaviour that we are going to test
+        ingestService.start();
+        ingestService.stop();
+
+        //then - verify the output
+        assertThat(ingestService.getStatus(queued.ticket()).get().state()).isEqualTo(EmployeeIngestStatus.State.FAILED);
+        assertThat(ingestService.submit(employee)).isEmpty();
+
+    }
+}
@@ -0,0 +1,138 @@
+package net.javaguides.springboot.service;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import net.javaguides.springboot.service.impl.EmployeeSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeSearchIndexTests {
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private EmployeeSearchIndex searchIndex;
+
+    private EmployeeView mani;
+    private EmployeeView manoj;
+    private EmployeeView james;
+
+    @BeforeEach
+    public void setup() {
+        searchIndex = new EmployeeSearchIndex(employeeRepository);
+        mani = new EmployeeView(1L, "Mani", "kumar", "mani@outlook.com", 0L);
+        manoj = new EmployeeView(2L, "Manoj", "kanta", "manoj.k@gmail.com", 0L);
+        james = new EmployeeView(3L, "James", "Bond", "bond.man@outlook.com", 0L);
+        searchIndex.put(mani);
+        searchIndex.put(manoj);
+        searchIndex.put(james);
+    }
+
+    // Junit test for prefix search ranking
+    @DisplayName("Junit test for prefix search ranking")
+    @Test
+    public void givenIndexedEmployees_whenSearchPrefix_thenRankWholeTokenMatchesFirst() {
+
+        //given - precondition
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeView> results = searchIndex.search("man", 10);
+
+        //then - verify the output
+        assertThat(results).containsExactly(james, manoj, mani);
+        assertThat(searchIndex.search("MANI", 10)).containsExactly(mani);
+        assertThat(searchIndex.search("man", 2)).hasSize(2);
+
+    }
+
+    // Junit test for multi term search
+    @DisplayName("Junit test for multi term search")
+    @Test
+    public void givenSeveralTerms_whenSearch_thenEveryTermMustMatch() {
+
+        //given - precondition
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeView> results = searchIndex.search("man outlook", 10);
+
+        //then - verify the output
+        assertThat(results).containsExactly(james, mani);
+        assertThat(searchIndex.search("manoj@gmail", 10)).containsExactly(manoj);
+        assertThat(searchIndex.search("mani gmail", 10)).isEmpty();
+        assertThat(searchIndex.search("  ", 10)).isEmpty();
+
+    }
+
+    // Junit test for incremental index maintenance
+    @DisplayName("Junit test for incremental index maintenance")
+    @Test
+    public void givenChangedEmployees_whenSearch_thenReturnCurrentState() {
+
+        //given - precondition
+        searchIndex.put(new EmployeeView(1L, "Manu", "kumar", "manu@outlook.com", 0L));
+        searchIndex.patch(2L, Employee.builder().lastName("sharma").build());
+        searchIndex.remove(List.of(3L));
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeView> results = searchIndex.search("man", 10);
+
+        //then - verify the output
+        assertThat(results).extracting(EmployeeView::id).containsExactly(1L, 2L);
+        assertThat(searchIndex.search("mani", 10)).isEmpty();
+        assertThat(searchIndex.search("sharma", 10)).extracting(EmployeeView::email).containsExactly("manoj.k@gmail.com");
+        assertThat(searchIndex.search("bond", 10)).isEmpty();
+
+    }
+
+    // Junit test for rebuilding the index from the repository
+    @DisplayName("Junit test for rebuilding the index from the repository")
+    @Test
+    public void givenStoredEmployees_whenRebuild_thenIndexThem() {
+
+        //given - precondition
+        given(employeeRepository.streamAll()).willReturn(Stream.of(Employee.builder()
+                .id(4L)
+                .firstName("Ravi")
+                .lastName("teja")
+                .email("ravi@outlook.com")
+                .build()));
+
+        //when - action or behaviour that we are going to test
+        searchIndex.rebuild();
+
+        //then - verify the output
+        assertThat(searchIndex.search("rav tej", 10)).extracting(EmployeeView::id).containsExactly(4L);
+
+    }
+
+    // Junit test for a short prefix over many employees
+    @DisplayName("Junit test for a short prefix over many employees")
+    @Test
+    public void givenManyPrefixMatches_whenSearchShortPrefix_thenKeepWholeTokenMatchesAndLimit() {
+
+        //given - precondition
+        LongStream.range(100, 20_100).forEach(id -> searchIndex.put(
+                new EmployeeView(id, "Mandeep", "Singh", "mandeep" + id + "@gmail.com", 0L)));
+
+        //when - action or behaviour that we are going to test
+        List<EmployeeView> results = searchIndex.search("man", 1);
+
+        //then - verify the output
+        assertThat(results).containsExactly(james);
+        assertThat(searchIndex.search("mandeep", 5)).hasSize(5)
+                .extracting(EmployeeView::firstName).containsOnly("Mandeep");
+
+    }
+}
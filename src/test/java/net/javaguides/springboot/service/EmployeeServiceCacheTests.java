@@ -0,0 +1,134 @@
+package net.javaguides.springboot.service;
+
+import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeeView;
+import net.javaguides.springboot.repository.EmployeeRepository;
+import net.javaguides.springboot.service.impl.EmployeeSearchIndex;
+import net.javaguides.springboot.service.impl.EmployeeServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringJUnitConfig
+public class EmployeeServiceCacheTests {
+
+    @Configuration
+    @EnableCaching
+    @Import(EmployeeServiceImpl.class)
+    static class CacheTestConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(EmployeeServiceImpl.EMPLOYEE_CACHE, EmployeeServiceImpl.EMPLOYEE_RESPONSE_CACHE);
+        }
+    }
+
+    @MockBean
+    private EmployeeRepository employeeRepository;
+    @MockBean
+    private EmployeeSearchIndex searchIndex;
+    @Autowired
+    private EmployeeService employeeService;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private EmployeeView employee;
+
+    @BeforeEach
+    public void setup() {
+        cacheManager.getCache(EmployeeServiceImpl.EMPLOYEE_CACHE).clear();
+        employee = new EmployeeView(1L, "Mani", "kumar", "mani@outlook.com", 0L);
+    }
+
+    @DisplayName("Junit test for getEmployeeViewById served from the cache")
+    @Test
+    public void givenCachedEmployee_whenGetEmployeeById_thenRepositoryHitOnce() {
+
+        //given - precondition
+        given(employeeRepository.findViewById(1L)).willReturn(Optional.of(employee));
+
+        //when - action or behaviour that we are going to test
+        employeeService.getEmployeeViewById(1L);
+        Optional<EmployeeView> cachedEmployee = employeeService.getEmployeeViewById(1L);
+
+        //then - verify the output
+        assertThat(cachedEmployee).contains(employee);
+        verify(employeeRepository, times(1)).findViewById(1L);
+
+    }
+
+    @DisplayName("Junit test for updateEmployee invalidating the cache")
+    @Test
+    public void givenCachedEmployee_whenUpdateEmployee_thenReloadOnNextGet() {
+
+        //given - precondition
+        given(employeeRepository.findViewById(1L)).willReturn(Optional.of(employee));
+        Employee updatedEmployee = Employee.builder()
+                .id(1L)
+                .firstName("Manu")
+                .lastName("kumar")
+                .email("mani@outlook.com")
+                .build();
+        given(employeeRepository.save(updatedEmployee)).willReturn(updatedEmployee);
+        employeeService.getEmployeeViewById(1L);
+
+        //when - action or behaviour that we are going to test
+        employeeService.updateEmployee(updatedEmployee);
+        employeeService.getEmployeeViewById(1L);
+
+        //then - verify the output
+        verify(employeeRepository, times(2)).findViewById(1L);
+
+    }
+
+    @DisplayName("Junit test for getEmployeeViewById not caching missing employees")
+    @Test
+    public void givenMissingEmployee_whenGetEmployeeById_thenNotCached() {
+
+        //given - precondition
+        given(employeeRepository.findViewById(2L)).willReturn(Optional.empty());
+
+        //when - action or behaviour that we are going to test
+        employeeService.getEmployeeViewById(2L);
+        employeeService.getEmployeeViewById(2L);
+
+        //then - verify the output
+        verify(employeeRepository, times(2)).findViewById(2L);
+
+    }
+
+    @DisplayName("Junit test for writes clearing the response cache")
+    @Test
+    public void givenCachedResponses_whenDeleteEmployee_thenResponseCacheCleared() {
+
+        //given - precondition
+        Cache responseCache = cacheManager.getCache(EmployeeServiceImpl.EMPLOYEE_RESPONSE_CACHE);
+        responseCache.put("all:1-1-0", new byte[0]);
+        responseCache.put("2:0", new byte[0]);
+        given(employeeRepository.deleteEmployeeById(1L)).willReturn(1);
+
+        //when - action or behaviour that we are going to test
+        employeeService.deleteEmployee(1L);
+
+        //then - verify the output
+        assertThat(responseCache.get("all:1-1-0")).isNull();
+        assertThat(responseCache.get("2:0")).isNull();
+
+    }
+}
@@ -1,8 +1,12 @@
 package net.javaguides.springboot.service;
 
 import net.javaguides.springboot.exception.ResourceNotFoundException;
+import net.javaguides.springboot.model.BatchItemResult;
 import net.javaguides.springboot.model.Employee;
+import net.javaguides.springboot.model.EmployeePage;
+import net.javaguides.springboot.model.EmployeeView;
 import net.javaguides.springboot.repository.EmployeeRepository;
+import net.javaguides.springboot.service.impl.EmployeeSearchIndex;
 import net.javaguides.springboot.service.impl.EmployeeServiceImpl;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -13,18 +17,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +45,8 @@ import static org.mockito.Mockito.*;
 public class EmployeeServiceTests {
     @Mock
     private EmployeeRepository employeeRepository;
+    @Mock
+    private EmployeeSearchIndex searchIndex;
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -55,9 +70,6 @@ public class EmployeeServiceTests {
     public void givenEmployeeObject_whenSaveEmployee_thenReturnEmployeeObject() {
 
         //given - precondition
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.empty());
-
         given(employeeRepository.save(employee)).willReturn(employee);
 
 //        System.out.println(employeeRepository);
@@ -78,10 +90,8 @@ public class EmployeeServiceTests {
     public void givenExistingEmail_whenSaveEmployee_thenThrowsException() {
 
         //given - precondition
-        given(employeeRepository.findByEmail(employee.getEmail()))
-                .willReturn(Optional.of(employee));
-
-        //given(employeeRepository.save(employee)).willReturn(employee);
+        given(employeeRepository.save(employee)).willThrow(new DataIntegrityViolationException("duplicate email",
+                new ConstraintViolationException("duplicate email", new SQLException(), "employees." + Employee.EMAIL_UNIQUE_INDEX)));
 
 
         //when - action or behaviour that we are going to test
@@ -90,7 +100,7 @@ public class EmployeeServiceTests {
         });
 
         //then - verify the output
-        verify(employeeRepository, never()).save(any(Employee.class));
+        verify(employeeRepository, never()).findByEmail(any());
 
     }
 
@@ -184,13 +194,109 @@ public class EmployeeServiceTests {
         long employeeId = 1L;
 
         //given - precondition
-        willDoNothing().given(employeeRepository).deleteById(employeeId);
+        given(employeeRepository.deleteEmployeeById(employeeId)).willReturn(1);
+
+        //when - action or behaviour that we are going to test
+        boolean deleted = employeeService.deleteEmployee(employeeId);
+
+        //then - verify the output
+        assertThat(deleted).isTrue();
+        verify(employeeRepository, never()).findById(employeeId);
+        verify(searchIndex).remove(List.of(employeeId));
+
+    }
+
+    // Junit test for keyset paginated getEmployees method
+    @DisplayName("Junit test for getEmployees method with a following page")
+    @Test
+    public void givenMoreRowsThanLimit_whenGetEmployees_thenReturnNextCursor() {
+
+        //given - precondition
+        EmployeeView employeeView = new EmployeeView(1L, "Mani", "kumar", "mani@outlook.com", 0L);
+        EmployeeView employeeView1 = new EmployeeView(2L, "James", "bond", "james@outlook.com", 0L);
+
+        given(employeeRepository.findViewsByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .willReturn(List.of(employeeView, employeeView1));
+
+        //when - action or behaviour that we are going to test
+        EmployeePage page = employeeService.getEmployees(0L, 1);
+
+        //then - verify the output
+        assertThat(page.getContent()).containsExactly(employeeView);
+        assertThat(page.getNextCursor()).isEqualTo(employeeView.id());
+
+    }
+
+    // Junit test for saveEmployees method
+    @DisplayName("Junit test for saveEmployees method which reports duplicates")
+    @Test
+    public void givenBatchWithDuplicates_whenSaveEmployees_thenInsertOnlyNewEmails() {
+
+        //given - precondition
+        Employee newEmployee = Employee.builder()
+                .firstName("James")
+                .lastName("bond")
+                .email("james@outlook.com")
+                .build();
+        Employee repeatedEmployee = Employee.builder()
+                .firstName("Jim")
+                .lastName("bond")
+                .email("james@outlook.com")
+                .build();
+
+        given(employeeRepository.findExistingEmails(anyList())).willReturn(List.of(employee.getEmail()));
+        willAnswer((invocation) -> {
+            List<Employee> inserted = invocation.getArgument(0);
+            inserted.forEach(e -> e.setId(7L));
+            return null;
+        }).given(employeeRepository).insertAll(anyList());
+
+        //when - action or behaviour that we are going to test
+        List<BatchItemResult> results = employeeService.saveEmployees(List.of(employee, newEmployee, repeatedEmployee));
+
+        //then - verify the output
+        assertThat(results).extracting(BatchItemResult::getStatus).containsExactly(
+                BatchItemResult.Status.DUPLICATE, BatchItemResult.Status.CREATED, BatchItemResult.Status.DUPLICATE);
+        assertThat(results.get(1).getId()).isEqualTo(7L);
+        verify(employeeRepository, times(1)).insertAll(List.of(newEmployee));
+
+    }
+
+    // Junit test for patchEmployee method
+    @DisplayName("Junit test for patchEmployee method")
+    @Test
+    public void givenPartialEmployee_whenPatchEmployee_thenUpdateSuppliedColumns() {
+
+        //given - precondition
+        Employee patch = Employee.builder()
+                .email("manu@gmail.com")
+                .build();
+        given(employeeRepository.patchEmployee(1L, null, null, "manu@gmail.com")).willReturn(1);
+
+        //when - action or behaviour that we are going to test
+        boolean patched = employeeService.patchEmployee(1L, patch);
+
+        //then - verify the output
+        assertThat(patched).isTrue();
+        verify(employeeRepository, never()).findById(anyLong());
+
+    }
+
+    // Junit test for deleteEmployees method
+    @DisplayName("Junit test for deleteEmployees method with chunked id lists")
+    @Test
+    public void givenLargeIdList_whenDeleteEmployees_thenDeleteInChunks() {
+
+        //given - precondition
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        given(employeeRepository.deleteEmployeesByIds(anyList())).willAnswer((invocation) -> ((List<?>) invocation.getArgument(0)).size());
 
         //when - action or behaviour that we are going to test
-        employeeService.deleteEmployee(employeeId);
+        int deleted = employeeService.deleteEmployees(ids);
 
         //then - verify the output
-        verify(employeeRepository, times(1)).deleteById(employeeId);
+        assertThat(deleted).isEqualTo(2500);
+        verify(employeeRepository, times(3)).deleteEmployeesByIds(anyList());
 
     }
 
@@ -0,0 +1,74 @@
+package net.javaguides.springboot.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EmployeeCsvParserTests {
+    private final List<String> rows = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+
+    private EmployeeCsvParser parser;
+
+    @BeforeEach
+    public void setup() {
+        parser = new EmployeeCsvParser(new EmployeeCsvParser.RowHandler() {
+            @Override
+            public void row(long line, String firstName, String lastName, String email) {
+                rows.add(line + ":" + email);
+            }
+
+            @Override
+            public void rejected(long line, String reason) {
+                rejected.add(line + ":" + reason);
+            }
+        });
+    }
+
+    // Junit test for a field longer than the cap
+    @DisplayName("Junit test for a field longer than the cap")
+    @Test
+    public void givenOverlongField_whenFeed_thenRejectRowAndContinueWithNextLine() {
+
+        //given - precondition
+        String csv = "Mani,kumar,mani@outlook.com\n"
+                + "\"" + "x".repeat(5000) + ",bond,james@outlook.com\n"
+                + "Manoj,kanta,manoj@gmail.com\n";
+
+        //when - action or behaviour that we are going to test
+        parser.feed(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+        parser.finish();
+
+        //then - verify the output
+        assertThat(rows).containsExactly("1:mani@outlook.com", "3:manoj@gmail.com");
+        assertThat(rejected).containsExactly("2:field is longer than 1024 bytes");
+
+    }
+
+    // Junit test for a quote that is never closed
+    @DisplayName("Junit test for a quote that is never closed")
+    @Test
+    public void givenUnterminatedQuote_whenFinish_thenRejectRow() {
+
+        //given - precondition
+        String csv = "Mani,kumar,mani@outlook.com\n"
+                + "James,bond,\"james@outlook.com\n"
+                + "Manoj,kanta,manoj@gmail.com\n";
+
+        //when - action or behaviour that we are going to test
+        parser.feed(ByteBuffer.wrap(csv.getBytes(StandardCharsets.UTF_8)));
+        parser.finish();
+
+        //then - verify the output
+        assertThat(rows).containsExactly("1:mani@outlook.com");
+        assertThat(rejected).containsExactly("2:quoted field is not closed");
+
+    }
+}
@@ -0,0 +1,63 @@
+package net.javaguides.springboot.support;
+
+import net.javaguides.springboot.config.SqlStatementCountingFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MockMvc matchers on the X-Sql-Statements header, e.g. andExpect(sqlStatements().selects(1)).
+// Needs app.sql-statements.header-enabled=true in the test's properties.
+public final class SqlStatementCountMatchers {
+
+    private SqlStatementCountMatchers() {
+    }
+
+    public static SqlStatementCountMatchers sqlStatements() {
+        return new SqlStatementCountMatchers();
+    }
+
+    public ResultMatcher total(int expected) {
+        return count("total", expected);
+    }
+
+    public ResultMatcher selects(int expected) {
+        return count("select", expected);
+    }
+
+    public ResultMatcher inserts(int expected) {
+        return count("insert", expected);
+    }
+
+    public ResultMatcher updates(int expected) {
+        return count("update", expected);
+    }
+
+    public ResultMatcher deletes(int expected) {
+        return count("delete", expected);
+    }
+
+    private static ResultMatcher count(String type, int expected) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementCountingFilter.HEADER);
+            assertThat(header)
+                    .as("%s header, is app.sql-statements.header-enabled set?", SqlStatementCountingFilter.HEADER)
+                    .isNotNull();
+            assertThat(parse(header).get(type))
+                    .as("%s statements executed by %s %s (%s)", type, result.getRequest().getMethod(),
+                            result.getRequest().getRequestURI(), header)
+                    .isEqualTo(expected);
+        };
+    }
+
+    private static Map<String, Integer> parse(String header) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String entry : header.split(";")) {
+            String[] typeAndCount = entry.split("=");
+            counts.put(typeAndCount[0], Integer.parseInt(typeAndCount[1]));
+        }
+        return counts;
+    }
+}